@@ -0,0 +1,142 @@
+package org.example.expert;
+
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.example.expert.config.JwtUtil;
+import org.example.expert.domain.user.enums.UserRole;
+import org.h2.tools.Server;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Tomcat 요청 스레드를 적게(TOMCAT_THREADS) 두고 동시 요청 connections 개로 GET /todos/{todoId} 를 호출해
+ * 동기 핸들러(sync)와 async=true 핸들러(async)가 모두 응답하기까지의 시간을 비교한다.
+ * sync 는 요청 스레드가 JDBC 왕복 동안 묶여 있어 Tomcat 풀 크기만큼만 동시에 처리되고,
+ * async 는 요청 스레드를 바로 반환하고 IoExecutors 의 db 풀(DB 커넥션 풀과 같은 크기)에서 조회한다.
+ * trial 이 끝나면 Tomcat 요청 스레드(http-nio-*-exec-*) 수를 함께 출력한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class AsyncControllerLoadBenchmark {
+
+	private static final long TODO_ID = 1L;
+	private static final int TOMCAT_THREADS = 8;
+	private static final int DB_POOL_SIZE = 32;
+
+	@Param({"sync", "async"})
+	public String handler;
+
+	@Param("5000")
+	public int connections;
+
+	private Server h2Server;
+	private ConfigurableApplicationContext context;
+	private HttpClient httpClient;
+	private HttpRequest request;
+
+	@Setup(Level.Trial)
+	public void setUp() throws SQLException {
+		h2Server = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+
+		context = new SpringApplicationBuilder(ExpertApplication.class)
+			.run(
+				"--server.port=0",
+				"--server.tomcat.threads.max=" + TOMCAT_THREADS,
+				"--server.tomcat.threads.min-spare=" + TOMCAT_THREADS,
+				"--server.tomcat.max-connections=" + (connections * 2),
+				"--server.tomcat.accept-count=" + connections,
+				"--spring.datasource.url=jdbc:h2:tcp://localhost:" + h2Server.getPort() + "/mem:async;DB_CLOSE_DELAY=-1",
+				"--spring.datasource.driver-class-name=org.h2.Driver",
+				"--spring.datasource.username=sa",
+				"--spring.datasource.password=",
+				"--spring.datasource.hikari.maximum-pool-size=" + DB_POOL_SIZE,
+				"--async.db.pool-size=" + DB_POOL_SIZE,
+				"--async.db.queue-capacity=" + connections,
+				"--spring.jpa.hibernate.ddl-auto=create",
+				"--spring.jpa.properties.hibernate.show_sql=false",
+				"--jwt.secret.key=" + Base64.getEncoder().encodeToString("benchmark-secret-key-benchmark-secret".getBytes()),
+				"--weather.api.base-url=http://127.0.0.1:1",
+				"--admin.audit.file=build/jmh-admin-audit.log",
+				"--logging.level.root=WARN");
+
+		JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+		jdbcTemplate.update("INSERT INTO users (id, email, password, user_role, created_at, modified_at) " +
+			"VALUES (1, 'user1@test.com', '1234', 'USER', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)");
+		jdbcTemplate.update("INSERT INTO todos (id, title, contents, weather, user_id, created_at, modified_at) " +
+			"VALUES (" + TODO_ID + ", 'title', 'contents', 'Sunny', 1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)");
+
+		String bearerToken = context.getBean(JwtUtil.class).createToken(1L, "user1@test.com", UserRole.USER);
+		int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+		String query = "async".equals(handler) ? "?async=true" : "";
+
+		httpClient = HttpClient.newBuilder()
+			.version(HttpClient.Version.HTTP_1_1)
+			.connectTimeout(Duration.ofSeconds(30))
+			.build();
+		request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/todos/" + TODO_ID + query))
+			.header("Authorization", bearerToken)
+			.timeout(Duration.ofSeconds(60))
+			.GET()
+			.build();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		long requestThreads = Thread.getAllStackTraces().keySet().stream()
+			.filter(thread -> thread.getName().startsWith("http-nio-") && thread.getName().contains("-exec-"))
+			.count();
+		System.out.printf("%n[handler=%s, connections=%d] tomcat request threads %d, peak threads %d%n",
+			handler, connections, requestThreads, ManagementFactory.getThreadMXBean().getPeakThreadCount());
+		context.close();
+		h2Server.stop();
+	}
+
+	@Benchmark
+	public int concurrentRequests() {
+		AtomicInteger succeeded = new AtomicInteger();
+		CompletableFuture<?>[] responses = new CompletableFuture<?>[connections];
+		for (int i = 0; i < connections; i++) {
+			responses[i] = httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+				.thenAccept(response -> {
+					if (response.statusCode() == 200) {
+						succeeded.incrementAndGet();
+					}
+				});
+		}
+		CompletableFuture.allOf(responses).join();
+
+		if (succeeded.get() != connections) {
+			throw new IllegalStateException("실패한 요청이 있습니다: " + (connections - succeeded.get()) + "/" + connections);
+		}
+		return succeeded.get();
+	}
+}
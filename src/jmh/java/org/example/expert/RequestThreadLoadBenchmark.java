@@ -0,0 +1,147 @@
+package org.example.expert;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.example.expert.config.JwtUtil;
+import org.example.expert.domain.user.enums.UserRole;
+import org.h2.tools.Server;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 동시 연결 connections 개가 한꺼번에 GET /todos/{todoId} 를 호출했을 때 모두 응답받기까지의 시간을 요청 스레드 방식별로 비교한다.
+ * platform 은 Tomcat 기본 스레드 풀(200), virtual 은 spring.threads.virtual.enabled=true 로 요청마다 가상 스레드를 사용한다.
+ * 요청은 JWT 검증 후 H2 TCP 서버(loopback)에 JDBC 로 조회하므로 요청 스레드는 대부분 소켓 I/O 에서 대기한다.
+ * 메모리는 매 호출 후 힙 사용량과 플랫폼 스레드 수의 최댓값을 기록해 trial 이 끝날 때 출력한다.
+ * 부하를 주는 HttpClient 도 같은 JVM 에서 동작하므로 두 방식 모두 클라이언트 몫이 같이 포함된다.
+ * virtual 모드는 Java 21 이상에서만 의미가 있으므로 -PjmhJavaVersion=21 로 실행한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class RequestThreadLoadBenchmark {
+
+	private static final long TODO_ID = 1L;
+
+	@Param({"platform", "virtual"})
+	public String threads;
+
+	@Param({"1000", "10000"})
+	public int connections;
+
+	private Server h2Server;
+	private ConfigurableApplicationContext context;
+	private HttpClient httpClient;
+	private HttpRequest request;
+	private long maxHeapUsed;
+	private int maxThreadCount;
+
+	@Setup(Level.Trial)
+	public void setUp() throws SQLException {
+		h2Server = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+
+		context = new SpringApplicationBuilder(ExpertApplication.class)
+			.run(
+				"--server.port=0",
+				// 동시 연결이 accept 큐에서 끊기지 않도록 연결 수 제한을 늘린다
+				"--server.tomcat.max-connections=" + (connections * 2),
+				"--server.tomcat.accept-count=" + connections,
+				"--spring.threads.virtual.enabled=" + "virtual".equals(threads),
+				"--spring.datasource.url=jdbc:h2:tcp://localhost:" + h2Server.getPort() + "/mem:threads;DB_CLOSE_DELAY=-1",
+				"--spring.datasource.driver-class-name=org.h2.Driver",
+				"--spring.datasource.username=sa",
+				"--spring.datasource.password=",
+				"--spring.datasource.hikari.maximum-pool-size=50",
+				"--spring.jpa.hibernate.ddl-auto=create",
+				"--spring.jpa.properties.hibernate.show_sql=false",
+				"--jwt.secret.key=" + Base64.getEncoder().encodeToString("benchmark-secret-key-benchmark-secret".getBytes()),
+				"--weather.api.base-url=http://127.0.0.1:1",
+				"--admin.audit.file=build/jmh-admin-audit.log",
+				"--logging.level.root=WARN");
+
+		JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+		jdbcTemplate.update("INSERT INTO users (id, email, password, user_role, created_at, modified_at) " +
+			"VALUES (1, 'user1@test.com', '1234', 'USER', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)");
+		jdbcTemplate.update("INSERT INTO todos (id, title, contents, weather, user_id, created_at, modified_at) " +
+			"VALUES (" + TODO_ID + ", 'title', 'contents', 'Sunny', 1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)");
+
+		String bearerToken = context.getBean(JwtUtil.class).createToken(1L, "user1@test.com", UserRole.USER);
+		int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+		httpClient = HttpClient.newBuilder()
+			.version(HttpClient.Version.HTTP_1_1)
+			.connectTimeout(Duration.ofSeconds(30))
+			.build();
+		request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/todos/" + TODO_ID))
+			.header("Authorization", bearerToken)
+			.timeout(Duration.ofSeconds(60))
+			.GET()
+			.build();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		System.out.printf("%n[threads=%s, connections=%d] max heap used %d MB, peak platform threads %d%n",
+			threads, connections, maxHeapUsed / (1024 * 1024), maxThreadCount);
+		context.close();
+		h2Server.stop();
+	}
+
+	@Benchmark
+	public int concurrentRequests() {
+		AtomicInteger succeeded = new AtomicInteger();
+		CompletableFuture<?>[] responses = new CompletableFuture<?>[connections];
+		for (int i = 0; i < connections; i++) {
+			responses[i] = httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+				.thenAccept(response -> {
+					if (response.statusCode() == 200) {
+						succeeded.incrementAndGet();
+					}
+				});
+		}
+		CompletableFuture.allOf(responses).join();
+
+		recordResourceUsage();
+		if (succeeded.get() != connections) {
+			throw new IllegalStateException("실패한 요청이 있습니다: " + (connections - succeeded.get()) + "/" + connections);
+		}
+		return succeeded.get();
+	}
+
+	private void recordResourceUsage() {
+		MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+		ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+		maxHeapUsed = Math.max(maxHeapUsed, memory.getHeapMemoryUsage().getUsed());
+		maxThreadCount = Math.max(maxThreadCount, threadBean.getPeakThreadCount());
+	}
+}
@@ -0,0 +1,125 @@
+package org.example.expert.config;
+
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import org.example.expert.domain.common.annotation.Auth;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.core.MethodParameter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.jsonwebtoken.Claims;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * JwtFilter 에서 AuthUserArgumentResolver 까지 인증 사용자 정보를 전달하는 비용을 비교한다.
+ * legacy 는 요청 attribute 3개를 저장하고 resolver 에서 캐스팅과 UserRole.of 로 다시 조립하던 방식이다.
+ * 두 경우 모두 같은 JwtUtil(Claims 캐시 사용)을 사용해 전달 방식의 차이만 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuthUserResolutionBenchmark {
+
+	private JwtUtil jwtUtil;
+	private JwtFilter jwtFilter;
+	private AuthUserArgumentResolver resolver;
+	private MethodParameter authUserParameter;
+	private String bearerToken;
+
+	@Setup
+	public void setUp() throws NoSuchMethodException {
+		String secretKey = Base64.getEncoder().encodeToString("benchmark-secret-key-benchmark-secret".getBytes());
+		jwtUtil = new JwtUtil(secretKey, 10_000);
+		jwtUtil.init();
+
+		jwtFilter = new JwtFilter(jwtUtil, new ErrorResponseBodies(new ObjectMapper()));
+		resolver = new AuthUserArgumentResolver();
+		authUserParameter = new MethodParameter(
+			AuthUserResolutionBenchmark.class.getMethod("handle", AuthUser.class), 0);
+		bearerToken = jwtUtil.createToken(1L, "bench@test.com", UserRole.USER);
+	}
+
+	public void handle(@Auth AuthUser authUser) {
+	}
+
+	@Benchmark
+	public void current(Blackhole blackhole) throws Exception {
+		MockHttpServletRequest request = newRequest();
+		jwtFilter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+			if (resolver.supportsParameter(authUserParameter)) {
+				blackhole.consume(resolver.resolveArgument(authUserParameter, null,
+					new ServletWebRequest((HttpServletRequest)req), null));
+			}
+		});
+	}
+
+	@Benchmark
+	public void legacy(Blackhole blackhole) throws Exception {
+		MockHttpServletRequest request = newRequest();
+		legacyFilter(request, new MockHttpServletResponse(), (req, res) -> {
+			if (legacySupportsParameter(authUserParameter)) {
+				blackhole.consume(legacyResolveArgument(new ServletWebRequest((HttpServletRequest)req)));
+			}
+		});
+	}
+
+	// 변경 전 JwtFilter 의 attribute 저장 방식
+	private void legacyFilter(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+		throws Exception {
+		String url = request.getRequestURI();
+		Claims claims = jwtUtil.extractClaims(jwtUtil.substringToken(request.getHeader("Authorization")));
+
+		UserRole userRole = UserRole.valueOf(claims.get("userRole", String.class));
+		request.setAttribute("userId", Long.parseLong(claims.getSubject()));
+		request.setAttribute("email", claims.get("email"));
+		request.setAttribute("userRole", claims.get("userRole"));
+
+		if (url.startsWith("/admin") && !UserRole.ADMIN.equals(userRole)) {
+			return;
+		}
+		chain.doFilter(request, response);
+	}
+
+	// 변경 전 AuthUserArgumentResolver 의 supportsParameter / resolveArgument
+	private boolean legacySupportsParameter(MethodParameter parameter) {
+		boolean hasAuthAnnotation = parameter.getParameterAnnotation(Auth.class) != null;
+		boolean isAuthUserType = parameter.getParameterType().equals(AuthUser.class);
+		return hasAuthAnnotation && isAuthUserType;
+	}
+
+	private AuthUser legacyResolveArgument(ServletWebRequest webRequest) {
+		HttpServletRequest request = webRequest.getRequest();
+		Long userId = (Long)request.getAttribute("userId");
+		String email = (String)request.getAttribute("email");
+		UserRole userRole = UserRole.of((String)request.getAttribute("userRole"));
+		return new AuthUser(userId, email, userRole);
+	}
+
+	private MockHttpServletRequest newRequest() {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todos");
+		request.addHeader("Authorization", bearerToken);
+		return request;
+	}
+}
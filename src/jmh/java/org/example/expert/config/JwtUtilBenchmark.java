@@ -0,0 +1,56 @@
+package org.example.expert.config;
+
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * 요청마다 JWT 를 파싱/검증하는 비용을 Claims 캐시 사용 여부에 따라 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+	private JwtUtil uncached;
+	private JwtUtil cached;
+	private String token;
+
+	@Setup
+	public void setUp() {
+		String secretKey = Base64.getEncoder().encodeToString("benchmark-secret-key-benchmark-secret".getBytes());
+
+		uncached = new JwtUtil(secretKey, 0);
+		uncached.init();
+		cached = new JwtUtil(secretKey, 10_000);
+		cached.init();
+
+		token = cached.substringToken(cached.createToken(1L, "bench@test.com", UserRole.USER));
+	}
+
+	@Benchmark
+	public Claims parseWithoutCache() {
+		return uncached.extractClaims(token);
+	}
+
+	@Benchmark
+	public Claims parseWithCache() {
+		return cached.extractClaims(token);
+	}
+}
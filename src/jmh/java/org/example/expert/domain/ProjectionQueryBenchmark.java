@@ -0,0 +1,144 @@
+package org.example.expert.domain;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.example.expert.ExpertApplication;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.comment.service.CommentService;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoService;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.entity.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 목록 조회를 DTO projection 으로 바꾼 효과를 측정한다.
+ * entity 는 변경 전처럼 엔티티와 fetch join 된 User 를 읽기 전용 트랜잭션에서 조회한 뒤 응답 DTO 로 옮기는 방식이다.
+ * 메모리 사용량은 -prof gc 의 gc.alloc.rate.norm(B/op) 로 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ProjectionQueryBenchmark {
+
+	private static final long TODO_ID = 1L;
+
+	@Param("10000")
+	public int rows;
+
+	private ConfigurableApplicationContext context;
+	private TodoService todoService;
+	private TodoRepository todoRepository;
+	private CommentService commentService;
+	private CommentRepository commentRepository;
+	private TransactionTemplate readOnlyTransaction;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		context = new SpringApplicationBuilder(ExpertApplication.class)
+			// application.yml 보다 우선하도록 커맨드라인 인자로 전달
+			.run(
+				"--server.port=0",
+				"--spring.datasource.url=jdbc:h2:mem:projection;DB_CLOSE_DELAY=-1;OPTIMIZE_REUSE_RESULTS=FALSE",
+				"--spring.datasource.driver-class-name=org.h2.Driver",
+				"--spring.datasource.username=sa",
+				"--spring.datasource.password=",
+				"--spring.jpa.hibernate.ddl-auto=create",
+				"--spring.jpa.properties.hibernate.show_sql=false",
+				"--jwt.secret.key=" + Base64.getEncoder().encodeToString("benchmark-secret-key-benchmark-secret".getBytes()),
+				"--weather.api.base-url=http://127.0.0.1:1",
+				"--admin.audit.file=build/jmh-admin-audit.log",
+				"--logging.level.root=WARN");
+
+		todoService = context.getBean(TodoService.class);
+		todoRepository = context.getBean(TodoRepository.class);
+		commentService = context.getBean(CommentService.class);
+		commentRepository = context.getBean(CommentRepository.class);
+		readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+		readOnlyTransaction.setReadOnly(true);
+
+		JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+		jdbcTemplate.update("INSERT INTO users (id, email, password, user_role, created_at, modified_at) " +
+			"SELECT X, 'user' || X || '@test.com', '$2a$04$abcdefghijklmnopqrstuuabcdefghijklmnopqrstuvwxyz012', 'USER', " +
+			"CURRENT_TIMESTAMP, CURRENT_TIMESTAMP FROM SYSTEM_RANGE(1, 100)");
+		jdbcTemplate.update("INSERT INTO todos (id, title, contents, weather, user_id, created_at, modified_at) " +
+			"SELECT X, 'title' || X, 'contents' || X, 'Sunny', MOD(X, 100) + 1, " +
+			"CURRENT_TIMESTAMP, DATEADD('SECOND', X, CURRENT_TIMESTAMP) FROM SYSTEM_RANGE(1, " + rows + ")");
+		jdbcTemplate.update("INSERT INTO comments (id, contents, user_id, todo_id, created_at, modified_at) " +
+			"SELECT X, 'comment' || X, MOD(X, 100) + 1, " + TODO_ID + ", CURRENT_TIMESTAMP, CURRENT_TIMESTAMP " +
+			"FROM SYSTEM_RANGE(1, " + rows + ")");
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public Page<TodoResponse> todosProjection() {
+		return todoService.getTodos(1, rows);
+	}
+
+	@Benchmark
+	public Page<TodoResponse> todosEntity() {
+		return readOnlyTransaction.execute(status ->
+			todoRepository.findAllByOrderByModifiedAtDesc(PageRequest.of(0, rows)).map(todo -> new TodoResponse(
+				todo.getId(),
+				todo.getTitle(),
+				todo.getContents(),
+				todo.getWeather(),
+				new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
+				todo.getCreatedAt(),
+				todo.getModifiedAt(),
+				todo.getCommentCount(),
+				todo.getManagerCount()
+			)));
+	}
+
+	@Benchmark
+	public List<CommentResponse> commentsProjection() {
+		return commentService.getComments(TODO_ID);
+	}
+
+	@Benchmark
+	public List<CommentResponse> commentsEntity() {
+		return readOnlyTransaction.execute(status -> {
+			List<CommentResponse> dtoList = new ArrayList<>();
+			for (Comment comment : commentRepository.findByTodoIdWithUser(TODO_ID)) {
+				User user = comment.getUser();
+				dtoList.add(new CommentResponse(comment.getId(), comment.getContents(),
+					new UserResponse(user.getId(), user.getEmail())));
+			}
+			return dtoList;
+		});
+	}
+}
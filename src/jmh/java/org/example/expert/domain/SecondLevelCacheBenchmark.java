@@ -0,0 +1,144 @@
+package org.example.expert.domain;
+
+import java.sql.SQLException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import org.example.expert.ExpertApplication;
+import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.service.CommentService;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
+import org.example.expert.domain.manager.service.ManagerService;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.UserService;
+import org.h2.tools.Server;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Hibernate 2차 캐시를 켰을 때와 껐을 때 요청 종류별 응답 시간과 DB 왕복 횟수를 비교한다.
+ * 왕복 횟수는 Hibernate 통계의 prepared statement 수를 호출 수로 나눈 값으로, trial 이 끝날 때 출력한다.
+ * DB 는 statement 마다 네트워크 왕복이 생기도록 H2 TCP 서버로 띄운다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class SecondLevelCacheBenchmark {
+
+	private static final long OWNER_ID = 1L;
+	private static final long MANAGER_USER_ID = 2L;
+	private static final long TODO_ID = 1L;
+	private static final AuthUser OWNER = new AuthUser(OWNER_ID, "user1@test.com", UserRole.USER);
+
+	@Param({"true", "false"})
+	public boolean cache;
+
+	private Server h2Server;
+	private ConfigurableApplicationContext context;
+	private CommentService commentService;
+	private ManagerService managerService;
+	private UserService userService;
+	private UserRepository userRepository;
+	private TransactionTemplate readOnlyTransaction;
+	private Statistics statistics;
+	private long invocations;
+
+	@Setup(Level.Trial)
+	public void setUp() throws SQLException {
+		h2Server = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+
+		context = new SpringApplicationBuilder(ExpertApplication.class)
+			.run(
+				"--server.port=0",
+				"--spring.datasource.url=jdbc:h2:tcp://localhost:" + h2Server.getPort() + "/mem:l2cache;DB_CLOSE_DELAY=-1",
+				"--spring.datasource.driver-class-name=org.h2.Driver",
+				"--spring.datasource.username=sa",
+				"--spring.datasource.password=",
+				"--spring.jpa.hibernate.ddl-auto=create",
+				"--spring.jpa.properties.hibernate.show_sql=false",
+				"--spring.jpa.properties.hibernate.cache.use_second_level_cache=" + cache,
+				"--spring.jpa.properties.hibernate.cache.use_query_cache=" + cache,
+				"--spring.jpa.properties.hibernate.generate_statistics=true",
+				"--jwt.secret.key=" + Base64.getEncoder().encodeToString("benchmark-secret-key-benchmark-secret".getBytes()),
+				"--weather.api.base-url=http://127.0.0.1:1",
+				"--admin.audit.file=build/jmh-admin-audit.log",
+				"--logging.level.root=WARN");
+
+		commentService = context.getBean(CommentService.class);
+		managerService = context.getBean(ManagerService.class);
+		userService = context.getBean(UserService.class);
+		userRepository = context.getBean(UserRepository.class);
+		readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+		readOnlyTransaction.setReadOnly(true);
+		statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+
+		JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+		jdbcTemplate.update("INSERT INTO users (id, email, password, user_role, created_at, modified_at) " +
+			"SELECT X, 'user' || X || '@test.com', '1234', 'USER', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP " +
+			"FROM SYSTEM_RANGE(1, 2)");
+		jdbcTemplate.update("INSERT INTO todos (id, title, contents, weather, user_id, created_at, modified_at) " +
+			"VALUES (" + TODO_ID + ", 'title', 'contents', 'Sunny', " + OWNER_ID + ", CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)");
+
+		statistics.clear();
+		invocations = 0;
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		System.out.printf("%n[cache=%s] %d invocations, %.2f statements/op, 2nd-level cache hit %d / miss %d%n",
+			cache, invocations, (double) statistics.getPrepareStatementCount() / Math.max(1, invocations),
+			statistics.getSecondLevelCacheHitCount(), statistics.getSecondLevelCacheMissCount());
+		context.close();
+		h2Server.stop();
+	}
+
+	@Benchmark
+	public Object saveComment() {
+		invocations++;
+		return commentService.saveComment(OWNER, TODO_ID, new CommentSaveRequest("comment"));
+	}
+
+	@Benchmark
+	public Object saveManager() {
+		invocations++;
+		return managerService.saveManager(OWNER, TODO_ID, new ManagerSaveRequest(MANAGER_USER_ID));
+	}
+
+	@Benchmark
+	public Object getUser() {
+		invocations++;
+		return userService.getUser(OWNER_ID);
+	}
+
+	@Benchmark
+	public User findByEmail() {
+		invocations++;
+		return readOnlyTransaction.execute(status -> userRepository.findByEmail(OWNER.getEmail()).orElseThrow());
+	}
+}
@@ -0,0 +1,136 @@
+package org.example.expert.domain.todo;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.example.expert.ExpertApplication;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.dto.request.TodoBulkSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBulkSaveResponse;
+import org.example.expert.domain.todo.service.TodoService;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.h2.tools.Server;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * 같은 건수의 Todo 를 POST /todos 경로(saveTodo 반복)와 POST /todos/bulk 경로(saveTodos)로 저장할 때의 처리량을 비교한다.
+ * 결과 단위는 초당 저장한 Todo 수(ops/s)이다.
+ * DB 는 statement 마다 네트워크 왕복이 생기도록 H2 TCP 서버로, 날씨 API 는 로컬 HTTP 서버로 대체한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class TodoBulkSaveBenchmark {
+
+	private static final int BATCH = TodoBulkSaveRequest.MAX_SIZE;
+
+	private Server h2Server;
+	private HttpServer weatherServer;
+	private ConfigurableApplicationContext context;
+	private TodoService todoService;
+	private JdbcTemplate jdbcTemplate;
+	private AuthUser authUser;
+	private List<TodoSaveRequest> requests;
+
+	@Setup(Level.Trial)
+	public void setUp() throws SQLException, IOException {
+		h2Server = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+
+		byte[] weather = ("[{\"date\":\"" + LocalDate.now().format(DateTimeFormatter.ofPattern("MM-dd"))
+			+ "\",\"weather\":\"Sunny\"}]").getBytes(StandardCharsets.UTF_8);
+		weatherServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		weatherServer.createContext("/f-api/weather.json", exchange -> {
+			exchange.getResponseHeaders().add("Content-Type", "application/json");
+			exchange.sendResponseHeaders(200, weather.length);
+			try (OutputStream body = exchange.getResponseBody()) {
+				body.write(weather);
+			}
+		});
+		weatherServer.start();
+
+		context = new SpringApplicationBuilder(ExpertApplication.class)
+			.run(
+				"--server.port=0",
+				"--spring.datasource.url=jdbc:h2:tcp://localhost:" + h2Server.getPort() + "/mem:bulk;DB_CLOSE_DELAY=-1",
+				"--spring.datasource.driver-class-name=org.h2.Driver",
+				"--spring.datasource.username=sa",
+				"--spring.datasource.password=",
+				"--spring.jpa.hibernate.ddl-auto=create",
+				"--spring.jpa.properties.hibernate.show_sql=false",
+				"--jwt.secret.key=" + Base64.getEncoder().encodeToString("benchmark-secret-key-benchmark-secret".getBytes()),
+				"--weather.api.base-url=http://127.0.0.1:" + weatherServer.getAddress().getPort(),
+				"--admin.audit.file=build/jmh-admin-audit.log",
+				"--logging.level.root=WARN");
+
+		todoService = context.getBean(TodoService.class);
+		jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+		User user = context.getBean(UserRepository.class).save(new User("bench@test.com", "1234", UserRole.USER));
+		authUser = new AuthUser(user.getId(), user.getEmail(), user.getUserRole());
+
+		requests = new ArrayList<>(BATCH);
+		for (int i = 1; i <= BATCH; i++) {
+			requests.add(new TodoSaveRequest("title" + i, "contents" + i));
+		}
+	}
+
+	@Setup(Level.Iteration)
+	public void truncate() {
+		jdbcTemplate.update("DELETE FROM managers");
+		jdbcTemplate.update("DELETE FROM todos");
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+		weatherServer.stop(0);
+		h2Server.stop();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH)
+	public void singleSave(Blackhole blackhole) {
+		for (TodoSaveRequest request : requests) {
+			blackhole.consume(todoService.saveTodo(authUser, request));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH)
+	public TodoBulkSaveResponse bulkSave() {
+		return todoService.saveTodos(authUser, new TodoBulkSaveRequest(requests));
+	}
+}
@@ -0,0 +1,123 @@
+package org.example.expert.domain.todo;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.example.expert.ExpertApplication;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.h2.tools.Server;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Todo(와 cascade 로 함께 저장되는 Manager) 대량 저장 시간을 id 생성 전략별로 비교한다.
+ * identity 는 변경 전처럼 IDENTITY 로 되돌린 매핑(META-INF/identity-id-mapping.xml)을 사용해 insert 가 한 건씩 실행되고,
+ * pooled 는 id_sequences 테이블의 pooled 할당으로 hibernate.jdbc.batch_size 만큼 묶어서 insert 한다.
+ * DB 는 실제 서버처럼 statement 마다 네트워크 왕복이 생기도록 H2 TCP 서버로 띄운다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class TodoInsertBenchmark {
+
+	private static final int FLUSH_INTERVAL = 50;
+
+	@Param({"identity", "pooled"})
+	public String idStrategy;
+
+	@Param("100000")
+	public int todos;
+
+	private Server h2Server;
+	private ConfigurableApplicationContext context;
+	private EntityManager entityManager;
+	private TransactionTemplate transaction;
+	private JdbcTemplate jdbcTemplate;
+	private Long userId;
+
+	@Setup(Level.Trial)
+	public void setUp() throws SQLException {
+		// in-memory 직접 연결은 왕복 비용이 없어 배치 효과가 드러나지 않으므로 TCP(loopback) 로 연결한다.
+		h2Server = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+
+		List<String> args = new ArrayList<>(List.of(
+			"--server.port=0",
+			"--spring.datasource.url=jdbc:h2:tcp://localhost:" + h2Server.getPort() + "/mem:insert;DB_CLOSE_DELAY=-1",
+			"--spring.datasource.driver-class-name=org.h2.Driver",
+			"--spring.datasource.username=sa",
+			"--spring.datasource.password=",
+			"--spring.jpa.hibernate.ddl-auto=create",
+			"--spring.jpa.properties.hibernate.show_sql=false",
+			"--jwt.secret.key=" + Base64.getEncoder().encodeToString("benchmark-secret-key-benchmark-secret".getBytes()),
+			"--weather.api.base-url=http://127.0.0.1:1",
+			"--admin.audit.file=build/jmh-admin-audit.log",
+			"--logging.level.root=WARN"));
+		if ("identity".equals(idStrategy)) {
+			args.add("--spring.jpa.mapping-resources=META-INF/identity-id-mapping.xml");
+		}
+		context = new SpringApplicationBuilder(ExpertApplication.class).run(args.toArray(String[]::new));
+
+		entityManager = context.getBean(EntityManager.class);
+		transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+		jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+		userId = transaction.execute(status -> {
+			User user = new User("bench@test.com", "1234", UserRole.USER);
+			entityManager.persist(user);
+			return user.getId();
+		});
+	}
+
+	@Setup(Level.Iteration)
+	public void truncate() {
+		jdbcTemplate.update("DELETE FROM managers");
+		jdbcTemplate.update("DELETE FROM todos");
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+		h2Server.stop();
+	}
+
+	@Benchmark
+	public void insertTodosWithManagers() {
+		transaction.executeWithoutResult(status -> {
+			User user = entityManager.getReference(User.class, userId);
+			for (int i = 1; i <= todos; i++) {
+				entityManager.persist(new Todo("title" + i, "contents" + i, "Sunny", user));
+				if (i % FLUSH_INTERVAL == 0) {
+					entityManager.flush();
+					entityManager.clear();
+					user = entityManager.getReference(User.class, userId);
+				}
+			}
+		});
+	}
+}
@@ -0,0 +1,137 @@
+package org.example.expert.domain.todo;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * GET /todos 의 offset 페이지네이션과 keyset(cursor) 페이지네이션을 페이지 깊이별로 비교한다.
+ * H2 메모리 DB 에 Todo 를 채워 두고, TodoRepository 의 쿼리에 대해 Hibernate 가 생성하는 SQL 과 같은 형태로 실행한다.
+ * offset 모드는 Page 응답을 위해 count 쿼리까지 함께 실행한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class TodoPaginationBenchmark {
+
+	private static final String SELECT_TODOS =
+		"SELECT t.id, t.title, t.contents, t.weather, t.created_at, t.modified_at, u.id, u.email " +
+			"FROM todos t LEFT JOIN users u ON u.id = t.user_id ";
+
+	@Param("2000000")
+	public int rows;
+
+	@Param({"1", "1000", "100000"})
+	public int page;
+
+	@Param("10")
+	public int size;
+
+	private Connection connection;
+	private PreparedStatement offsetQuery;
+	private PreparedStatement countQuery;
+	private PreparedStatement firstSliceQuery;
+	private PreparedStatement sliceAfterQuery;
+
+	private Timestamp cursorModifiedAt;
+	private long cursorId;
+
+	@Setup(Level.Trial)
+	public void setUp() throws SQLException {
+		connection = DriverManager.getConnection("jdbc:h2:mem:todo-pagination;DB_CLOSE_DELAY=-1;OPTIMIZE_REUSE_RESULTS=FALSE", "sa", "");
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("CREATE TABLE users (id BIGINT PRIMARY KEY, email VARCHAR(255))");
+			statement.execute("INSERT INTO users VALUES (1, 'bench@test.com')");
+			statement.execute("CREATE TABLE todos (id BIGINT PRIMARY KEY, title VARCHAR(255), contents VARCHAR(255), " +
+				"weather VARCHAR(255), user_id BIGINT NOT NULL, created_at TIMESTAMP(6), modified_at TIMESTAMP(6))");
+			// 같은 수정 시각이 여러 건 있도록 4건마다 1초씩 증가시켜 id 를 tie-breaker 로 사용하게 한다
+			statement.execute("INSERT INTO todos SELECT X, 'title' || X, 'contents' || X, 'Sunny', 1, " +
+				"DATEADD('SECOND', X / 4, TIMESTAMP '2024-01-01 00:00:00'), " +
+				"DATEADD('SECOND', X / 4, TIMESTAMP '2024-01-01 00:00:00') FROM SYSTEM_RANGE(1, " + rows + ")");
+			statement.execute("CREATE INDEX idx_todos_modified_at_id ON todos (modified_at DESC, id DESC)");
+		}
+
+		offsetQuery = connection.prepareStatement(SELECT_TODOS +
+			"ORDER BY t.modified_at DESC OFFSET ? ROWS FETCH FIRST ? ROWS ONLY");
+		countQuery = connection.prepareStatement("SELECT COUNT(t.id) FROM todos t");
+		firstSliceQuery = connection.prepareStatement(SELECT_TODOS +
+			"ORDER BY t.modified_at DESC, t.id DESC FETCH FIRST ? ROWS ONLY");
+		sliceAfterQuery = connection.prepareStatement(SELECT_TODOS +
+			"WHERE t.modified_at <= ? AND (t.modified_at < ? OR t.id < ?) " +
+			"ORDER BY t.modified_at DESC, t.id DESC FETCH FIRST ? ROWS ONLY");
+
+		// 이전 페이지의 마지막 Todo 를 커서로 사용
+		if (page > 1) {
+			try (PreparedStatement cursorQuery = connection.prepareStatement(
+				"SELECT modified_at, id FROM todos ORDER BY modified_at DESC, id DESC OFFSET ? ROWS FETCH FIRST 1 ROWS ONLY")) {
+				cursorQuery.setLong(1, (long)(page - 1) * size - 1);
+				try (ResultSet resultSet = cursorQuery.executeQuery()) {
+					resultSet.next();
+					cursorModifiedAt = resultSet.getTimestamp(1);
+					cursorId = resultSet.getLong(2);
+				}
+			}
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws SQLException {
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("DROP ALL OBJECTS");
+		}
+		connection.close();
+	}
+
+	@Benchmark
+	public void offset(Blackhole blackhole) throws SQLException {
+		offsetQuery.setLong(1, (long)(page - 1) * size);
+		offsetQuery.setInt(2, size);
+		consume(offsetQuery, blackhole);
+		consume(countQuery, blackhole);
+	}
+
+	@Benchmark
+	public void keyset(Blackhole blackhole) throws SQLException {
+		if (page == 1) {
+			firstSliceQuery.setInt(1, size + 1);
+			consume(firstSliceQuery, blackhole);
+			return;
+		}
+		sliceAfterQuery.setTimestamp(1, cursorModifiedAt);
+		sliceAfterQuery.setTimestamp(2, cursorModifiedAt);
+		sliceAfterQuery.setLong(3, cursorId);
+		sliceAfterQuery.setInt(4, size + 1);
+		consume(sliceAfterQuery, blackhole);
+	}
+
+	private static void consume(PreparedStatement query, Blackhole blackhole) throws SQLException {
+		try (ResultSet resultSet = query.executeQuery()) {
+			while (resultSet.next()) {
+				blackhole.consume(resultSet.getLong(1));
+			}
+		}
+	}
+}
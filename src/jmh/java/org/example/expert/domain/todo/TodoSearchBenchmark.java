@@ -0,0 +1,96 @@
+package org.example.expert.domain.todo;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.service.TodoSearchIndex;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 대량의 Todo 를 색인한 TodoSearchIndex 에서 단어/복수 단어/접두사 검색 시간을 측정한다.
+ * 제목은 3단어, 내용은 8단어를 VOCABULARY 개 단어에서 무작위로 골라 만든다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class TodoSearchBenchmark {
+
+	private static final int VOCABULARY = 20_000;
+	private static final int CHUNK = 10_000;
+
+	@Param("1000000")
+	public int todos;
+
+	private TodoSearchIndex todoSearchIndex;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		todoSearchIndex = new TodoSearchIndex(Files.createTempDirectory("todo-search-bench").toString());
+
+		User user = new User("bench@test.com", "1234", UserRole.USER);
+		SplittableRandom random = new SplittableRandom(42);
+		List<Todo> chunk = new ArrayList<>(CHUNK);
+		for (long id = 1; id <= todos; id++) {
+			Todo todo = new Todo(words(random, 3), words(random, 8), "Sunny", user);
+			ReflectionTestUtils.setField(todo, "id", id);
+			chunk.add(todo);
+			if (chunk.size() == CHUNK) {
+				todoSearchIndex.indexAll(chunk);
+				chunk.clear();
+			}
+		}
+		todoSearchIndex.indexAll(chunk);
+		todoSearchIndex.commit();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		todoSearchIndex.close();
+	}
+
+	private String words(SplittableRandom random, int count) {
+		StringBuilder text = new StringBuilder();
+		for (int i = 0; i < count; i++) {
+			text.append(" word").append(random.nextInt(VOCABULARY));
+		}
+		return text.toString();
+	}
+
+	@Benchmark
+	public List<Long> term() {
+		return todoSearchIndex.search("word1234", 20);
+	}
+
+	@Benchmark
+	public List<Long> twoTerms() {
+		return todoSearchIndex.search("word1234 word42", 20);
+	}
+
+	@Benchmark
+	public List<Long> prefix() {
+		return todoSearchIndex.search("word123*", 20);
+	}
+}
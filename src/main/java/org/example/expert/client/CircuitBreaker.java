@@ -0,0 +1,97 @@
+package org.example.expert.client;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 연속 실패 횟수 기반의 간단한 서킷 브레이커.
+ * 실패가 임계치에 도달하면 OPEN 상태가 되어 호출을 즉시 거절하고,
+ * openDuration 이 지나면 HALF_OPEN 상태에서 한 번의 시험 호출만 허용한다.
+ * 가상 스레드가 모니터 대기 중에 캐리어 스레드를 붙잡지 않도록 synchronized 대신 ReentrantLock 을 사용한다.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final Clock clock;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private Instant openedAt;
+    private boolean trialInFlight;
+
+    public CircuitBreaker(int failureThreshold, Duration openDuration) {
+        this(failureThreshold, openDuration, Clock.systemUTC());
+    }
+
+    CircuitBreaker(int failureThreshold, Duration openDuration, Clock clock) {
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+        this.clock = clock;
+    }
+
+    public boolean tryAcquirePermission() {
+        lock.lock();
+        try {
+            if (state == State.OPEN && !clock.instant().isBefore(openedAt.plus(openDuration))) {
+                state = State.HALF_OPEN;
+            }
+
+            return switch (state) {
+                case CLOSED -> true;
+                case OPEN -> false;
+                case HALF_OPEN -> {
+                    if (trialInFlight) {
+                        yield false;
+                    }
+                    trialInFlight = true;
+                    yield true;
+                }
+            };
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onSuccess() {
+        lock.lock();
+        try {
+            state = State.CLOSED;
+            consecutiveFailures = 0;
+            trialInFlight = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onFailure() {
+        lock.lock();
+        try {
+            trialInFlight = false;
+            consecutiveFailures++;
+
+            if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+                state = State.OPEN;
+                openedAt = clock.instant();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public State getState() {
+        lock.lock();
+        try {
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package org.example.expert.client;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 날짜별 날씨를 캐싱하는 컴포넌트.
+ * 하루 한 번 백그라운드에서 갱신하고, 동시에 발생한 캐시 미스는 하나의 요청으로 합친다.
+ * 갱신이 지연되는 동안에는 마지막으로 조회된 날씨를, 조회된 적이 없으면 기본 날씨를 반환한다.
+ */
+@Slf4j
+@Component
+public class WeatherCache {
+
+    private final WeatherClient weatherClient;
+    private final Duration waitTimeout;
+    private final String fallbackWeather;
+    private final Clock clock;
+
+    private final ExecutorService refresher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "weather-refresher");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ConcurrentMap<LocalDate, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+    private volatile CachedWeather lastKnown;
+
+    @Autowired
+    public WeatherCache(
+            WeatherClient weatherClient,
+            @Value("${weather.cache.wait-timeout:3s}") Duration waitTimeout,
+            @Value("${weather.cache.fallback-weather:}") String fallbackWeather
+    ) {
+        this(weatherClient, waitTimeout, fallbackWeather, Clock.systemDefaultZone());
+    }
+
+    WeatherCache(WeatherClient weatherClient, Duration waitTimeout, String fallbackWeather, Clock clock) {
+        this.weatherClient = weatherClient;
+        this.waitTimeout = waitTimeout;
+        this.fallbackWeather = fallbackWeather;
+        this.clock = clock;
+    }
+
+    public String getTodayWeather() {
+        LocalDate today = LocalDate.now(clock);
+        CachedWeather cached = lastKnown;
+
+        if (cached != null && cached.date().equals(today)) {
+            return cached.weather();
+        }
+
+        CompletableFuture<String> refresh = refresh(today);
+
+        // 갱신이 끝나기를 기다리지 않고 마지막으로 알려진 날씨를 반환
+        if (cached != null) {
+            return cached.weather();
+        }
+
+        try {
+            return await(refresh);
+        } catch (ServerException e) {
+            // 조회된 적 없는 상태에서 외부 API 장애 시 기본 날씨로 대체
+            if (!StringUtils.hasText(fallbackWeather)) {
+                throw e;
+            }
+            log.warn("기본 날씨로 대체: message={}", e.getMessage());
+            return fallbackWeather;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        refresh(LocalDate.now(clock));
+    }
+
+    @Scheduled(cron = "${weather.cache.refresh-cron:0 0 0 * * *}")
+    public void refreshToday() {
+        refresh(LocalDate.now(clock));
+    }
+
+    CompletableFuture<String> refresh(LocalDate date) {
+        CompletableFuture<String> existing = inFlight.get(date);
+        if (existing != null) {
+            return existing;
+        }
+
+        CompletableFuture<String> created = new CompletableFuture<>();
+        existing = inFlight.putIfAbsent(date, created);
+        if (existing != null) {
+            return existing;
+        }
+
+        refresher.execute(() -> {
+            try {
+                String weather = weatherClient.getWeather(date);
+                CachedWeather cached = lastKnown;
+                if (cached == null || !cached.date().isAfter(date)) {
+                    lastKnown = new CachedWeather(date, weather);
+                }
+                created.complete(weather);
+            } catch (Exception e) {
+                log.warn("날씨 갱신 실패: date={}, message={}", date, e.getMessage());
+                created.completeExceptionally(e);
+            } finally {
+                inFlight.remove(date, created);
+            }
+        });
+
+        return created;
+    }
+
+    private String await(CompletableFuture<String> refresh) {
+        try {
+            return refresh.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new ServerException("날씨 데이터 응답이 지연되고 있습니다.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServerException("날씨 데이터를 가져오는 중 인터럽트가 발생했습니다.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ServerException serverException) {
+                throw serverException;
+            }
+            throw new ServerException("날씨 데이터를 가져오는데 실패했습니다.");
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    private record CachedWeather(LocalDate date, String weather) {
+    }
+}
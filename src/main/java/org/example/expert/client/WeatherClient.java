@@ -1,9 +1,12 @@
 package org.example.expert.client;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.example.expert.client.dto.WeatherDto;
-import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.common.exception.ServerException;
-import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
@@ -14,19 +17,82 @@ import java.net.URI;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.Optional;
-
-import javax.swing.text.html.Option;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class WeatherClient {
 
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MM-dd");
+
     private final RestTemplate restTemplate;
+    private final String baseUrl;
+    private final Semaphore bulkhead;
+    private final CircuitBreaker circuitBreaker;
+
+    private final Timer successTimer;
+    private final Timer failureTimer;
+    private final Counter circuitOpenRejections;
+    private final Counter bulkheadFullRejections;
+
+    public WeatherClient(
+            RestTemplate weatherRestTemplate,
+            CircuitBreaker weatherCircuitBreaker,
+            MeterRegistry meterRegistry,
+            @Value("${weather.api.base-url:https://f-api.github.io}") String baseUrl,
+            @Value("${weather.client.max-concurrent-calls:10}") int maxConcurrentCalls
+    ) {
+        this.restTemplate = weatherRestTemplate;
+        this.circuitBreaker = weatherCircuitBreaker;
+        this.baseUrl = baseUrl;
+        this.bulkhead = new Semaphore(maxConcurrentCalls);
+
+        this.successTimer = requestTimer(meterRegistry, "success");
+        this.failureTimer = requestTimer(meterRegistry, "failure");
+        this.circuitOpenRejections = rejectionCounter(meterRegistry, "circuit_open");
+        this.bulkheadFullRejections = rejectionCounter(meterRegistry, "bulkhead_full");
 
-    public WeatherClient(RestTemplateBuilder builder) {
-        this.restTemplate = builder.build();
+        for (CircuitBreaker.State state : CircuitBreaker.State.values()) {
+            Gauge.builder("weather.client.circuit.state", circuitBreaker, breaker -> breaker.getState() == state ? 1 : 0)
+                    .tag("state", state.name().toLowerCase())
+                    .register(meterRegistry);
+        }
+        Gauge.builder("weather.client.bulkhead.available", bulkhead, Semaphore::availablePermits)
+                .register(meterRegistry);
     }
 
     public String getTodayWeather() {
+        return getWeather(LocalDate.now());
+    }
+
+    public String getWeather(LocalDate date) {
+        if (!bulkhead.tryAcquire()) {
+            bulkheadFullRejections.increment();
+            throw new ServerException("날씨 API 동시 호출 한도를 초과했습니다.");
+        }
+
+        if (!circuitBreaker.tryAcquirePermission()) {
+            bulkhead.release();
+            circuitOpenRejections.increment();
+            throw new ServerException("날씨 API 호출이 일시적으로 차단되었습니다.");
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+            String weather = fetchWeather(date);
+            circuitBreaker.onSuccess();
+            successTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            return weather;
+        } catch (RuntimeException e) {
+            circuitBreaker.onFailure();
+            failureTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            throw e;
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    private String fetchWeather(LocalDate date) {
         ResponseEntity<WeatherDto[]> responseEntity =
                 restTemplate.getForEntity(buildWeatherApiUri(), WeatherDto[].class);
 
@@ -38,10 +104,10 @@ public class WeatherClient {
             throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. 상태 코드: " + responseEntity.getStatusCode());
         }
 
-        String today = getCurrentDate();
+        String targetDate = date.format(DATE_FORMATTER);
 
         for (WeatherDto weatherDto : weatherArray) {
-            if (today.equals(weatherDto.getDate())) {
+            if (targetDate.equals(weatherDto.getDate())) {
                 return weatherDto.getWeather();
             }
         }
@@ -51,15 +117,23 @@ public class WeatherClient {
 
     private URI buildWeatherApiUri() {
         return UriComponentsBuilder
-                .fromUriString("https://f-api.github.io")
+                .fromUriString(baseUrl)
                 .path("/f-api/weather.json")
                 .encode()
                 .build()
                 .toUri();
     }
 
-    private String getCurrentDate() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
-        return LocalDate.now().format(formatter);
+    private static Timer requestTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("weather.client.requests")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static Counter rejectionCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("weather.client.rejected")
+                .tag("reason", reason)
+                .register(meterRegistry);
     }
 }
@@ -1,23 +1,32 @@
 package org.example.expert.config;
 
-import jakarta.servlet.http.HttpServletRequest;
 import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
-import org.example.expert.domain.user.enums.UserRole;
 import org.springframework.core.MethodParameter;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 @Component
 public class AuthUserArgumentResolver implements HandlerMethodArgumentResolver {
 
+    private final Map<MethodParameter, Boolean> supportsCache = new ConcurrentHashMap<>();
+
     @Override
     public boolean supportsParameter(MethodParameter parameter) {
+        Boolean cached = supportsCache.get(parameter);
+        if (cached != null) {
+            return cached;
+        }
+
         boolean hasAuthAnnotation = parameter.getParameterAnnotation(Auth.class) != null;
         boolean isAuthUserType = parameter.getParameterType().equals(AuthUser.class);
 
@@ -26,6 +35,7 @@ public class AuthUserArgumentResolver implements HandlerMethodArgumentResolver {
             throw new AuthException("@Auth와 AuthUser 타입은 함께 사용되어야 합니다.");
         }
 
+        supportsCache.put(parameter, hasAuthAnnotation);
         return hasAuthAnnotation;
     }
 
@@ -36,13 +46,7 @@ public class AuthUserArgumentResolver implements HandlerMethodArgumentResolver {
             NativeWebRequest webRequest,
             @Nullable WebDataBinderFactory binderFactory
     ) {
-        HttpServletRequest request = (HttpServletRequest) webRequest.getNativeRequest();
-
-        // JwtFilter 에서 set 한 userId, email, userRole 값을 가져옴
-        Long userId = (Long) request.getAttribute("userId");
-        String email = (String) request.getAttribute("email");
-        UserRole userRole = UserRole.of((String) request.getAttribute("userRole"));
-
-        return new AuthUser(userId, email, userRole);
+        // JwtFilter 에서 만들어 둔 AuthUser 를 그대로 반환
+        return webRequest.getAttribute(JwtFilter.AUTH_USER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
     }
 }
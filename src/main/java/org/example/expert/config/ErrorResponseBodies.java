@@ -0,0 +1,61 @@
+package org.example.expert.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * (상태 코드, 메시지) 조합별로 직렬화된 에러 응답 본문을 캐싱한다.
+ * 같은 에러가 반복되면 Map 생성과 Jackson 직렬화 없이 저장된 byte[] 를 그대로 반환한다.
+ * 반환된 배열은 공유되므로 호출하는 쪽에서 수정하면 안 된다.
+ * GlobalExceptionHandler 와 JwtFilter 가 같은 인스턴스를 사용한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ErrorResponseBodies {
+
+    private static final int MAX_ENTRIES = 1024;
+
+    private final ObjectMapper objectMapper;
+    private final Map<HttpStatus, Map<String, byte[]>> cache = new ConcurrentHashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    public byte[] get(HttpStatus status, String message) {
+        if (message == null) {
+            return serialize(status, null);
+        }
+
+        Map<String, byte[]> byMessage = cache.computeIfAbsent(status, key -> new ConcurrentHashMap<>());
+        byte[] body = byMessage.get(message);
+        if (body != null) {
+            return body;
+        }
+
+        body = serialize(status, message);
+        // 메시지에 동적인 값이 섞여 있어도 캐시가 무한히 커지지 않도록 제한
+        if (size.get() < MAX_ENTRIES && byMessage.putIfAbsent(message, body) == null) {
+            size.incrementAndGet();
+        }
+        return body;
+    }
+
+    private byte[] serialize(HttpStatus status, String message) {
+        Map<String, Object> errorResponse = new LinkedHashMap<>();
+        errorResponse.put("status", status.name());
+        errorResponse.put("code", status.value());
+        errorResponse.put("message", message);
+
+        try {
+            return objectMapper.writeValueAsBytes(errorResponse);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("에러 응답 직렬화에 실패했습니다.", e);
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package org.example.expert.config;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
@@ -11,12 +10,12 @@ import org.springframework.context.annotation.Configuration;
 public class FilterConfig {
 
     private final JwtUtil jwtUtil;
-    private final ObjectMapper objectMapper;
+    private final ErrorResponseBodies errorResponseBodies;
 
     @Bean
     public FilterRegistrationBean<JwtFilter> jwtFilter() {
         FilterRegistrationBean<JwtFilter> registrationBean = new FilterRegistrationBean<>();
-        registrationBean.setFilter(new JwtFilter(jwtUtil, objectMapper));
+        registrationBean.setFilter(new JwtFilter(jwtUtil, errorResponseBodies));
         registrationBean.addUrlPatterns("/*");
 
         return registrationBean;
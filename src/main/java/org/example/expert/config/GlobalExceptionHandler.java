@@ -3,7 +3,9 @@ package org.example.expert.config;
 import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -12,35 +14,46 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeoutException;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private final ErrorResponseBodies errorResponseBodies;
+
+    public GlobalExceptionHandler(ErrorResponseBodies errorResponseBodies) {
+        this.errorResponseBodies = errorResponseBodies;
+    }
+
     @ExceptionHandler(InvalidRequestException.class)
-    public ResponseEntity<Map<String, Object>> invalidRequestExceptionException(InvalidRequestException ex) {
+    public ResponseEntity<byte[]> invalidRequestExceptionException(InvalidRequestException ex) {
         HttpStatus status = HttpStatus.BAD_REQUEST;
         return getErrorResponse(status, ex.getMessage());
     }
 
     @ExceptionHandler(AuthException.class)
-    public ResponseEntity<Map<String, Object>> handleAuthException(AuthException ex) {
+    public ResponseEntity<byte[]> handleAuthException(AuthException ex) {
         HttpStatus status = HttpStatus.UNAUTHORIZED;
         return getErrorResponse(status, ex.getMessage());
     }
 
     @ExceptionHandler(ServerException.class)
-    public ResponseEntity<Map<String, Object>> handleServerException(ServerException ex) {
+    public ResponseEntity<byte[]> handleServerException(ServerException ex) {
         HttpStatus status = HttpStatus.INTERNAL_SERVER_ERROR;
         return getErrorResponse(status, ex.getMessage());
     }
 
-    public ResponseEntity<Map<String, Object>> getErrorResponse(HttpStatus status, String message) {
-        Map<String, Object> errorResponse = new HashMap<>();
-        errorResponse.put("status", status.name());
-        errorResponse.put("code", status.value());
-        errorResponse.put("message", message);
+    // 비동기 요청의 I/O 스레드 풀이 가득 찼거나 제한 시간 안에 끝나지 않은 경우
+    @ExceptionHandler({TaskRejectedException.class, TimeoutException.class})
+    public ResponseEntity<byte[]> handleAsyncOverload(Exception ex) {
+        HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+        return getErrorResponse(status, "요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해 주세요.");
+    }
 
-        return new ResponseEntity<>(errorResponse, status);
+    public ResponseEntity<byte[]> getErrorResponse(HttpStatus status, String message) {
+        return ResponseEntity.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(errorResponseBodies.get(status, message));
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
@@ -0,0 +1,69 @@
+package org.example.expert.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * @TableGenerator(table = "id_sequences") 로 바꾸기 전부터 있던 DB 에서도 새 id 가 기존 PK 와 겹치지 않도록
+ * 기동 시 id_sequences 의 각 행을 테이블의 MAX(id) 뒤로 맞춘다.
+ *
+ * Hibernate 6 은 next_val 에 마지막으로 쓴 값을 저장하고 pooled 옵티마이저는 next_val + 1 을 다음 할당 구간의 상한으로 쓰므로
+ * next_val 은 MAX(id) + allocationSize - 1 이상이어야 한다. ddl-auto 가 테이블을 만들면서 넣는 초기값(0)도 여기서 올린다.
+ * 값을 올리기만 하므로 여러 인스턴스가 동시에 기동하거나 이미 운영 중인 인스턴스가 있어도 안전하다.
+ * EntityManagerFactory 가 먼저 만들어져야 ddl-auto 로 id_sequences 테이블이 준비되므로 그 뒤에 초기화한다.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class IdSequenceInitializer {
+
+    // 엔티티의 @TableGenerator(allocationSize = 50) 과 같아야 한다
+    static final int ALLOCATION_SIZE = 50;
+
+    // pkColumnValue -> 테이블
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "users", "users",
+            "todos", "todos",
+            "comments", "comments",
+            "managers", "managers"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void initialize() {
+        SEQUENCES.forEach(this::initialize);
+    }
+
+    private void initialize(String sequenceName, String table) {
+        long floor = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class)
+                + ALLOCATION_SIZE - 1;
+
+        Integer exists = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM id_sequences WHERE sequence_name = ?", Integer.class, sequenceName);
+        if (exists == 0) {
+            try {
+                jdbcTemplate.update("INSERT INTO id_sequences (sequence_name, next_val) VALUES (?, ?)", sequenceName, floor);
+                log.info("id_sequences 초기화: sequence={}, next_val={}", sequenceName, floor);
+                return;
+            } catch (DuplicateKeyException e) {
+                // 다른 인스턴스가 먼저 넣었으면 아래에서 값만 맞춘다
+            }
+        }
+
+        int updated = jdbcTemplate.update(
+                "UPDATE id_sequences SET next_val = ? WHERE sequence_name = ? AND next_val < ?",
+                floor, sequenceName, floor);
+        if (updated > 0) {
+            log.info("id_sequences 보정: sequence={}, next_val={}", sequenceName, floor);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package org.example.expert.config;
+
+import org.example.expert.config.datasource.ReadYourWrites;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 비동기 컨트롤러가 요청 스레드 대신 사용하는 I/O 전용 스레드 풀.
+ * weather 는 날씨 API 조회, db 는 트랜잭션이 필요한 서비스 호출에 사용하며 둘 다 크기와 대기열이 제한되어 있어
+ * 가득 차면 TaskRejectedException 으로 바로 거절된다(503). 작업은 timeout 이 지나면 TimeoutException 으로 끝난다.
+ * Executor 타입 빈으로 등록하면 스프링 부트의 applicationTaskExecutor 자동 구성이 빠지므로 하나의 컴포넌트가 두 풀을 소유한다.
+ */
+@Component
+public class IoExecutors implements DisposableBean {
+
+    private final ThreadPoolTaskExecutor weather;
+    private final ThreadPoolTaskExecutor db;
+    private final Duration timeout;
+
+    public IoExecutors(
+            @Value("${async.weather.pool-size:8}") int weatherPoolSize,
+            @Value("${async.weather.queue-capacity:200}") int weatherQueueCapacity,
+            @Value("${async.db.pool-size:10}") int dbPoolSize,
+            @Value("${async.db.queue-capacity:1000}") int dbQueueCapacity,
+            @Value("${async.timeout:10s}") Duration timeout
+    ) {
+        this.weather = executor("async-weather-", weatherPoolSize, weatherQueueCapacity);
+        this.db = executor("async-db-", dbPoolSize, dbQueueCapacity);
+        this.timeout = timeout;
+    }
+
+    public Executor weather() {
+        return weather;
+    }
+
+    public Executor db() {
+        return db;
+    }
+
+    public <T> CompletableFuture<T> supplyWeather(Supplier<T> task) {
+        return withTimeout(CompletableFuture.supplyAsync(task, weather));
+    }
+
+    public <T> CompletableFuture<T> supplyDb(Supplier<T> task) {
+        return withTimeout(CompletableFuture.supplyAsync(task, db));
+    }
+
+    public <T> CompletableFuture<T> withTimeout(CompletableFuture<T> future) {
+        return future.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        weather.shutdown();
+        db.shutdown();
+    }
+
+    private static ThreadPoolTaskExecutor executor(String threadNamePrefix, int poolSize, int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setTaskDecorator(propagateRequestContext());
+        executor.initialize();
+        return executor;
+    }
+
+    // 요청 스레드의 read-your-writes 표시를 작업 스레드로 옮긴다. AuthUser 는 작업에 인자로 넘긴다
+    private static TaskDecorator propagateRequestContext() {
+        return task -> {
+            boolean primaryForced = ReadYourWrites.isPrimaryForced();
+            return () -> {
+                ReadYourWrites.forcePrimary(primaryForced);
+                try {
+                    task.run();
+                } finally {
+                    ReadYourWrites.forcePrimary(false);
+                }
+            };
+        };
+    }
+}
@@ -0,0 +1,89 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.Claims;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 서명 검증이 끝난 JWT 의 Claims 를 토큰 만료 시각까지 보관하는 크기 제한 캐시.
+ * 원본 토큰 대신 토큰의 SHA-256 해시를 키로 사용한다. maxSize 가 0 이면 캐싱하지 않는다.
+ */
+class JwtClaimsCache {
+
+    private final int maxSize;
+    private final ConcurrentMap<String, CachedClaims> entries = new ConcurrentHashMap<>();
+
+    JwtClaimsCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    Claims get(String token) {
+        if (maxSize <= 0) {
+            return null;
+        }
+
+        String key = hash(token);
+        CachedClaims cached = entries.get(key);
+        if (cached == null) {
+            return null;
+        }
+
+        if (cached.isExpired(System.currentTimeMillis())) {
+            entries.remove(key, cached);
+            return null;
+        }
+        return cached.claims();
+    }
+
+    void put(String token, Claims claims) {
+        Date expiration = claims.getExpiration();
+        if (maxSize <= 0 || expiration == null) {
+            return;
+        }
+
+        if (entries.size() >= maxSize) {
+            evict();
+        }
+        entries.put(hash(token), new CachedClaims(claims, expiration.getTime()));
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    // 만료된 항목을 먼저 제거하고, 그래도 가득 차 있으면 임의의 10% 를 제거
+    private void evict() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(cached -> cached.isExpired(now));
+
+        int toRemove = entries.size() - maxSize + Math.max(1, maxSize / 10);
+        Iterator<String> keys = entries.keySet().iterator();
+        while (toRemove-- > 0 && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record CachedClaims(Claims claims, long expiresAtMillis) {
+
+        boolean isExpired(long now) {
+            return now >= expiresAtMillis;
+        }
+    }
+}
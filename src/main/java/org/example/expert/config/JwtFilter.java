@@ -1,6 +1,5 @@
 package org.example.expert.config;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
@@ -10,19 +9,21 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.user.enums.UserRole;
 import org.springframework.http.HttpStatus;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
 
 @Slf4j
 @RequiredArgsConstructor
 public class JwtFilter implements Filter {
 
+    // 인증된 사용자 정보를 담는 요청 attribute 이름
+    public static final String AUTH_USER_ATTRIBUTE = AuthUser.class.getName();
+
     private final JwtUtil jwtUtil;
-    private final ObjectMapper objectMapper;
+    private final ErrorResponseBodies errorResponseBodies;
 
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
@@ -55,14 +56,15 @@ public class JwtFilter implements Filter {
                 return;
             }
 
-            UserRole userRole = UserRole.valueOf(claims.get("userRole", String.class));
-
-            httpRequest.setAttribute("userId", Long.parseLong(claims.getSubject()));
-            httpRequest.setAttribute("email", claims.get("email"));
-            httpRequest.setAttribute("userRole", claims.get("userRole"));
+            AuthUser authUser = new AuthUser(
+                    Long.parseLong(claims.getSubject()),
+                    claims.get("email", String.class),
+                    UserRole.valueOf(claims.get("userRole", String.class))
+            );
+            httpRequest.setAttribute(AUTH_USER_ATTRIBUTE, authUser);
 
-            if (url.startsWith("/admin") && !UserRole.ADMIN.equals(userRole)) {
-                log.warn("권한 부족: userId={}, role={}, URI={}", claims.getSubject(), userRole, url);
+            if (url.startsWith("/admin") && !UserRole.ADMIN.equals(authUser.getUserRole())) {
+                log.warn("권한 부족: userId={}, role={}, URI={}", authUser.getId(), authUser.getUserRole(), url);
                 sendErrorResponse(httpResponse, HttpStatus.FORBIDDEN, "접근 권한이 없습니다.");
                 return;
             }
@@ -81,14 +83,12 @@ public class JwtFilter implements Filter {
     }
 
     private void sendErrorResponse(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        // 미리 직렬화된 본문을 Writer 를 거치지 않고 출력 스트림에 바로 기록
+        byte[] body = errorResponseBodies.get(status, message);
+
         response.setStatus(status.value());
         response.setContentType("application/json;charset=UTF-8");
-
-        Map<String, Object> errorResponse = new HashMap<>();
-        errorResponse.put("status", status.name());
-        errorResponse.put("code", status.value());
-        errorResponse.put("message", message);
-
-        response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
     }
 }
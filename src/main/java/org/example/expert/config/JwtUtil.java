@@ -1,6 +1,7 @@
 package org.example.expert.config;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -23,15 +24,28 @@ public class JwtUtil {
     private static final String BEARER_PREFIX = "Bearer ";
     private static final long TOKEN_TIME = 60 * 60 * 1000L; // 60분
 
-    @Value("${jwt.secret.key}")
-    private String secretKey;
+    private final String secretKey;
+    private final JwtClaimsCache claimsCache;
     private Key key;
+    private JwtParser jwtParser;
     private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
 
+    public JwtUtil(
+            @Value("${jwt.secret.key}") String secretKey,
+            @Value("${jwt.claims-cache.max-size:10000}") int claimsCacheMaxSize
+    ) {
+        this.secretKey = secretKey;
+        this.claimsCache = new JwtClaimsCache(claimsCacheMaxSize);
+    }
+
     @PostConstruct
     public void init() {
         byte[] bytes = Base64.getDecoder().decode(secretKey);
         key = Keys.hmacShaKeyFor(bytes);
+        // JwtParser 는 불변이므로 한 번 만들어 모든 요청에서 재사용
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
     }
 
     public String createToken(Long userId, String email, UserRole userRole) {
@@ -56,10 +70,13 @@ public class JwtUtil {
     }
 
     public Claims extractClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        Claims cached = claimsCache.get(token);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+        claimsCache.put(token, claims);
+        return claims;
     }
 }
@@ -0,0 +1,80 @@
+package org.example.expert.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.time.Duration;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate 2차 캐시를 Caffeine(JCache) 으로 구성한다.
+ * 영역마다 TTL 과 최대 크기를 두어 미리 만들어 두고, hibernate.cache.use_second_level_cache 가 true 일 때만 Hibernate 에 연결한다.
+ * 적중/미스 건수는 hibernate.generate_statistics 가 켜져 있으면 /actuator/metrics 의 hibernate.second.level.cache.requests 로 노출된다.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    public static final String USER_REGION = "users";
+    public static final String TODO_REGION = "todos";
+    public static final String USER_BY_EMAIL_REGION = "users.findByEmail";
+
+    // 기본 CacheManager 는 JVM 에서 하나를 공유하므로(테스트의 여러 컨텍스트 등) 이미 있는 영역은 다시 만들지 않고, 컨텍스트 종료 시 닫지 않는다
+    @Bean(destroyMethod = "")
+    public CacheManager hibernateCacheManager(
+            @Value("${jpa.second-level-cache.entity-ttl:10m}") Duration entityTtl,
+            @Value("${jpa.second-level-cache.entity-max-size:10000}") long entityMaxSize,
+            @Value("${jpa.second-level-cache.query-ttl:5m}") Duration queryTtl,
+            @Value("${jpa.second-level-cache.query-max-size:10000}") long queryMaxSize
+    ) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+
+        createIfAbsent(cacheManager, USER_REGION, region(entityTtl, entityMaxSize));
+        createIfAbsent(cacheManager, TODO_REGION, region(entityTtl, entityMaxSize));
+        createIfAbsent(cacheManager, USER_BY_EMAIL_REGION, region(queryTtl, queryMaxSize));
+        createIfAbsent(cacheManager, RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, region(queryTtl, queryMaxSize));
+        // 테이블별 마지막 변경 시각. 만료되면 오래된 쿼리 결과가 유효하다고 판단될 수 있으므로 제거하지 않는다
+        createIfAbsent(cacheManager, RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, region(null, 0));
+
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            if (!Boolean.parseBoolean(String.valueOf(properties.get(AvailableSettings.USE_SECOND_LEVEL_CACHE)))) {
+                return;
+            }
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            // 위에서 만들지 않은 영역(오타 등)이 기본 설정으로 조용히 생기지 않도록 한다
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    private static void createIfAbsent(CacheManager cacheManager, String name, CaffeineConfiguration<Object, Object> configuration) {
+        if (cacheManager.getCache(name) == null) {
+            cacheManager.createCache(name, configuration);
+        }
+    }
+
+    private static CaffeineConfiguration<Object, Object> region(Duration ttl, long maxSize) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        if (ttl != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        }
+        if (maxSize > 0) {
+            configuration.setMaximumSize(OptionalLong.of(maxSize));
+        }
+        configuration.setStatisticsEnabled(true);
+        return configuration;
+    }
+}
@@ -0,0 +1,67 @@
+package org.example.expert.config;
+
+import java.time.Duration;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.example.expert.client.CircuitBreaker;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+@Configuration
+public class WeatherClientConfig {
+
+	// 커넥션 풀과 타임아웃이 적용된 날씨 API 전용 HTTP 엔진
+	@Bean
+	public HttpComponentsClientHttpRequestFactory weatherRequestFactory(
+		@Value("${weather.client.max-connections:20}") int maxConnections,
+		@Value("${weather.client.connect-timeout:1s}") Duration connectTimeout,
+		@Value("${weather.client.read-timeout:2s}") Duration readTimeout,
+		@Value("${weather.client.keep-alive:30s}") Duration keepAlive
+	) {
+		PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+			.setMaxConnTotal(maxConnections)
+			.setMaxConnPerRoute(maxConnections)
+			.setDefaultConnectionConfig(ConnectionConfig.custom()
+				.setConnectTimeout(Timeout.of(connectTimeout))
+				.setSocketTimeout(Timeout.of(readTimeout))
+				.setTimeToLive(TimeValue.of(keepAlive))
+				.build())
+			.build();
+
+		CloseableHttpClient httpClient = HttpClients.custom()
+			.setConnectionManager(connectionManager)
+			.setDefaultRequestConfig(RequestConfig.custom()
+				.setConnectionRequestTimeout(Timeout.of(connectTimeout))
+				.setResponseTimeout(Timeout.of(readTimeout))
+				.build())
+			.setKeepAliveStrategy((response, context) -> TimeValue.of(keepAlive))
+			.evictIdleConnections(TimeValue.of(keepAlive))
+			.build();
+
+		return new HttpComponentsClientHttpRequestFactory(httpClient);
+	}
+
+	@Bean
+	public RestTemplate weatherRestTemplate(RestTemplateBuilder builder, HttpComponentsClientHttpRequestFactory weatherRequestFactory) {
+		return builder.requestFactory(() -> weatherRequestFactory).build();
+	}
+
+	@Bean
+	public CircuitBreaker weatherCircuitBreaker(
+		@Value("${weather.client.circuit-breaker.failure-threshold:5}") int failureThreshold,
+		@Value("${weather.client.circuit-breaker.open-duration:30s}") Duration openDuration
+	) {
+		return new CircuitBreaker(failureThreshold, openDuration);
+	}
+}
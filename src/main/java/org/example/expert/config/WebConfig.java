@@ -2,8 +2,12 @@ package org.example.expert.config;
 
 import java.util.List;
 
+import org.example.expert.config.datasource.ReadYourWrites;
+import org.example.expert.config.datasource.ReadYourWritesInterceptor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import lombok.RequiredArgsConstructor;
@@ -13,9 +17,20 @@ import lombok.RequiredArgsConstructor;
 public class WebConfig implements WebMvcConfigurer {
 
 	private final AuthUserArgumentResolver authUserArgumentResolver;
+	// DataSourceConfig 가 없는 슬라이스 테스트(@WebMvcTest)에서는 등록되지 않는다
+	private final ObjectProvider<ReadYourWrites> readYourWrites;
 
 	@Override
 	public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
 		resolvers.add(authUserArgumentResolver);
 	}
+
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		readYourWrites.ifAvailable(tracker -> {
+			if (tracker.isEnabled()) {
+				registry.addInterceptor(new ReadYourWritesInterceptor(tracker));
+			}
+		});
+	}
 }
@@ -1,47 +1,38 @@
 package org.example.expert.config.aop;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.example.expert.config.JwtFilter;
+import org.example.expert.domain.common.dto.AuthUser;
 import org.springframework.stereotype.Component;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 
 @Aspect
 @Component
-@Slf4j
 @RequiredArgsConstructor
 public class AdminAccessLoggingAspect {
 
 	private final HttpServletRequest request;
-	private final ObjectMapper objectMapper;
+	private final AdminAuditLog adminAuditLog;
 
 	@Around("@annotation(AdminLog)")
 	public Object log(ProceedingJoinPoint pjp) throws Throwable {
 
-		Map<String, Object> logMap = new HashMap<>();
-
-		logMap.put("userId", request.getAttribute("userId"));
-		logMap.put("requestTime", System.currentTimeMillis());
-		logMap.put("requestURI", request.getRequestURI());
-		logMap.put("args", pjp.getArgs());
-
-		String json = objectMapper.writeValueAsString(logMap);
+		AuthUser authUser = (AuthUser) request.getAttribute(JwtFilter.AUTH_USER_ATTRIBUTE);
+		Long userId = authUser == null ? null : authUser.getId();
+		long requestTime = System.currentTimeMillis();
+		String requestURI = request.getRequestURI();
 
-		log.info("[REQUEST] {}", json);
+		// 인자/응답은 복사본만 넘기고, JSON 직렬화와 파일 기록은 AdminAuditLog 의 writer 스레드에서 처리
 		try {
 			Object result = pjp.proceed();
-			log.info("[RESPONSE] {}", objectMapper.writeValueAsString(result));
+			adminAuditLog.record(userId, requestTime, requestURI, pjp.getArgs(), result, null);
 			return result;
 		}catch (Exception e) {
-			log.error("[RESPONSE] exception message = {}", e.getMessage());
+			adminAuditLog.record(userId, requestTime, requestURI, pjp.getArgs(), null, e.getMessage());
 			throw e;
 		}
 	}
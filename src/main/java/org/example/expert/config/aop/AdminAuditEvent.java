@@ -0,0 +1,49 @@
+package org.example.expert.config.aop;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.http.ResponseEntity;
+
+/**
+ * 관리자 API 호출 한 건의 감사 기록.
+ * 요청 스레드에서는 {@link #snapshot(Object)} 으로 컬렉션/배열/Map 만 얕게 복사해 두고,
+ * JSON 직렬화와 파일 기록은 {@link AdminAuditLog} 의 writer 스레드가 수행한다.
+ */
+public record AdminAuditEvent(
+	Long userId,
+	long requestTime,
+	String requestURI,
+	Object args,
+	Object response,
+	String errorMessage
+) {
+
+	/**
+	 * 요청이 끝난 뒤 바뀔 수 있는 컨테이너(컬렉션, 배열, Map)는 복사하고, ResponseEntity 는 상태 코드와 본문만 남긴다.
+	 * 그 밖의 객체(요청/응답 DTO, 값 타입)는 바인딩 후 바뀌지 않으므로 그대로 넘긴다.
+	 */
+	static Object snapshot(Object value) {
+		if (value instanceof ResponseEntity<?> entity) {
+			Map<String, Object> response = new LinkedHashMap<>();
+			response.put("status", entity.getStatusCode().value());
+			response.put("body", snapshot(entity.getBody()));
+			return Collections.unmodifiableMap(response);
+		}
+		if (value instanceof Object[] array) {
+			return Arrays.stream(array).map(AdminAuditEvent::snapshot).toList();
+		}
+		if (value instanceof Collection<?> collection) {
+			return collection.stream().map(AdminAuditEvent::snapshot).toList();
+		}
+		if (value instanceof Map<?, ?> map) {
+			Map<Object, Object> copy = new LinkedHashMap<>();
+			map.forEach((key, element) -> copy.put(key, snapshot(element)));
+			return Collections.unmodifiableMap(copy);
+		}
+		return value;
+	}
+}
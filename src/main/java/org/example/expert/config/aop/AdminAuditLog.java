@@ -0,0 +1,181 @@
+package org.example.expert.config.aop;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 관리자 API 감사 기록을 비동기로 파일에 남기는 파이프라인.
+ * 요청 스레드는 인자/응답의 얕은 복사본을 링 버퍼에 넣기만 하고, writer 스레드가 배치 단위로 JSON 으로 직렬화해 한 줄씩 append 한다.
+ * 버퍼가 가득 차면 요청을 막지 않고 새 이벤트를 버리며, 버린 건수는 admin.audit.events{outcome=dropped} 로 남긴다.
+ * 파일 기록에 실패하면 writer 스레드는 멈추지 않고 간격을 늘려 가며 파일을 다시 연다.
+ */
+@Slf4j
+@Component
+public class AdminAuditLog {
+
+	private static final long MAX_REOPEN_BACKOFF_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+	private final AdminAuditRingBuffer<AdminAuditEvent> buffer;
+	private final ObjectMapper objectMapper;
+	private final Path file;
+	private final int batchSize;
+	private final long flushIntervalNanos;
+
+	private final Counter enqueued;
+	private final Counter dropped;
+	private final Counter flushed;
+
+	private final Thread writer;
+	private volatile boolean running = true;
+
+	public AdminAuditLog(
+		ObjectMapper objectMapper,
+		MeterRegistry meterRegistry,
+		@Value("${admin.audit.file:logs/admin-audit.log}") String file,
+		@Value("${admin.audit.buffer-size:8192}") int bufferSize,
+		@Value("${admin.audit.batch-size:256}") int batchSize,
+		@Value("${admin.audit.flush-interval:200ms}") Duration flushInterval
+	) {
+		this.buffer = new AdminAuditRingBuffer<>(bufferSize);
+		this.objectMapper = objectMapper;
+		this.file = Path.of(file);
+		this.batchSize = batchSize;
+		this.flushIntervalNanos = flushInterval.toNanos();
+
+		this.enqueued = eventCounter(meterRegistry, "enqueued");
+		this.dropped = eventCounter(meterRegistry, "dropped");
+		this.flushed = eventCounter(meterRegistry, "flushed");
+		Gauge.builder("admin.audit.buffer.size", buffer, AdminAuditRingBuffer::size)
+			.register(meterRegistry);
+
+		this.writer = new Thread(this::runWriter, "admin-audit-writer");
+		this.writer.setDaemon(true);
+		this.writer.start();
+	}
+
+	/**
+	 * 인자와 응답의 복사본으로 이벤트를 만들어 버퍼에 넣는다. 버퍼가 가득 차 있으면 기다리지 않고 false 를 반환한다.
+	 */
+	public boolean record(Long userId, long requestTime, String requestURI, Object[] args, Object response,
+		String errorMessage) {
+		return record(new AdminAuditEvent(userId, requestTime, requestURI,
+			AdminAuditEvent.snapshot(args), AdminAuditEvent.snapshot(response), errorMessage));
+	}
+
+	/**
+	 * 이벤트를 버퍼에 넣는다. 버퍼가 가득 차 있으면 기다리지 않고 false 를 반환한다.
+	 */
+	public boolean record(AdminAuditEvent event) {
+		if (buffer.offer(event)) {
+			enqueued.increment();
+			return true;
+		}
+		dropped.increment();
+		return false;
+	}
+
+	@PreDestroy
+	public void shutdown() throws InterruptedException {
+		running = false;
+		LockSupport.unpark(writer);
+		writer.join(TimeUnit.SECONDS.toMillis(5));
+	}
+
+	private void runWriter() {
+		long backoffNanos = flushIntervalNanos;
+		// 종료 요청 후에도 버퍼에 남은 이벤트는 모두 기록한다
+		while (running || buffer.size() > 0) {
+			try (Writer out = open()) {
+				backoffNanos = flushIntervalNanos;
+				while (running || buffer.size() > 0) {
+					if (drain(out) == 0) {
+						LockSupport.parkNanos(flushIntervalNanos);
+					}
+				}
+			} catch (IOException | RuntimeException e) {
+				if (!running) {
+					log.error("관리자 감사 로그 파일에 기록하지 못해 남은 이벤트를 버립니다. file = {}", file, e);
+					dropRemaining();
+					return;
+				}
+				log.error("관리자 감사 로그 파일에 기록하지 못했습니다. {}ms 후 다시 엽니다. file = {}",
+					TimeUnit.NANOSECONDS.toMillis(backoffNanos), file, e);
+				LockSupport.parkNanos(backoffNanos);
+				backoffNanos = Math.min(backoffNanos * 2, MAX_REOPEN_BACKOFF_NANOS);
+			}
+		}
+	}
+
+	private Writer open() throws IOException {
+		Path parent = file.toAbsolutePath().getParent();
+		if (parent != null) {
+			Files.createDirectories(parent);
+		}
+		return Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+			StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+	}
+
+	private int drain(Writer out) throws IOException {
+		int polled = 0;
+		int written = 0;
+		int failed = 0;
+		AdminAuditEvent event;
+
+		try {
+			while (polled < batchSize && (event = buffer.poll()) != null) {
+				polled++;
+				try {
+					out.write(objectMapper.writeValueAsString(event));
+					out.write('\n');
+					written++;
+				} catch (JsonProcessingException e) {
+					log.warn("관리자 감사 로그 직렬화에 실패했습니다. requestURI = {}", event.requestURI(), e);
+					failed++;
+				}
+			}
+
+			if (written > 0) {
+				out.flush();
+				flushed.increment(written);
+			}
+		} catch (IOException | RuntimeException e) {
+			// 이번 배치에서 꺼낸 이벤트는 파일에 남았는지 알 수 없으므로 버린 것으로 센다
+			dropped.increment(polled - failed);
+			throw e;
+		} finally {
+			dropped.increment(failed);
+		}
+		return polled;
+	}
+
+	private void dropRemaining() {
+		while (buffer.poll() != null) {
+			dropped.increment();
+		}
+	}
+
+	private static Counter eventCounter(MeterRegistry meterRegistry, String outcome) {
+		return Counter.builder("admin.audit.events")
+			.tag("outcome", outcome)
+			.register(meterRegistry);
+	}
+}
@@ -0,0 +1,79 @@
+package org.example.expert.config.aop;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 여러 요청 스레드가 넣고 하나의 writer 스레드가 꺼내는 고정 크기 lock-free 링 버퍼.
+ * 슬롯마다 sequence 를 두어 CAS 로 자리를 예약하며, 가득 차면 기다리지 않고 false 를 반환한다.
+ */
+final class AdminAuditRingBuffer<E> {
+
+	private final int mask;
+	private final AtomicReferenceArray<E> elements;
+	private final AtomicLongArray sequences;
+	private final AtomicLong tail = new AtomicLong();
+	private final AtomicLong head = new AtomicLong();
+
+	AdminAuditRingBuffer(int capacity) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("capacity must be positive");
+		}
+		int size = Integer.highestOneBit(capacity);
+		if (size < capacity) {
+			size <<= 1;
+		}
+		this.mask = size - 1;
+		this.elements = new AtomicReferenceArray<>(size);
+		this.sequences = new AtomicLongArray(size);
+		for (int i = 0; i < size; i++) {
+			sequences.set(i, i);
+		}
+	}
+
+	boolean offer(E element) {
+		long position = tail.get();
+		while (true) {
+			int index = (int)(position & mask);
+			long diff = sequences.get(index) - position;
+
+			if (diff == 0) {
+				if (tail.compareAndSet(position, position + 1)) {
+					elements.lazySet(index, element);
+					// sequence 갱신으로 소비자에게 슬롯이 채워졌음을 알린다
+					sequences.set(index, position + 1);
+					return true;
+				}
+				position = tail.get();
+			} else if (diff < 0) {
+				return false;
+			} else {
+				position = tail.get();
+			}
+		}
+	}
+
+	// 소비자는 writer 스레드 하나뿐이라는 전제로 동작한다
+	E poll() {
+		long position = head.get();
+		int index = (int)(position & mask);
+		if (sequences.get(index) != position + 1) {
+			return null;
+		}
+
+		E element = elements.get(index);
+		elements.lazySet(index, null);
+		head.lazySet(position + 1);
+		sequences.set(index, position + mask + 1);
+		return element;
+	}
+
+	int size() {
+		return (int)Math.max(0, tail.get() - head.get());
+	}
+
+	int capacity() {
+		return mask + 1;
+	}
+}
@@ -0,0 +1,83 @@
+package org.example.expert.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * spring.datasource 를 primary 로, datasource.replicas.urls 를 읽기 전용 복제본으로 사용한다.
+ * 복제본이 설정되어 있으면 LazyConnectionDataSourceProxy 가 트랜잭션의 첫 쿼리 시점에 커넥션을 가져오면서
+ * readOnly 트랜잭션(Connection.setReadOnly(true))은 ReplicaDataSource 로, 나머지는 primary 로 보낸다.
+ * 복제본이 없으면 primary 만 사용한다.
+ */
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    // 복제본 계정과 드라이버 설정은 primary 와 같다
+    @Bean
+    public ReplicaDataSource replicaDataSource(
+            HikariDataSource primaryDataSource,
+            DataSourceProperties properties,
+            @Value("${datasource.replicas.urls:}") List<String> urls,
+            @Value("${datasource.replicas.selection:round-robin}") String selection,
+            @Value("${datasource.replicas.max-pool-size:10}") int maxPoolSize,
+            @Value("${datasource.replicas.connection-timeout:1s}") Duration connectionTimeout,
+            @Value("${datasource.replicas.health-check-interval:PT5S}") Duration healthCheckInterval
+    ) {
+        List<HikariDataSource> replicas = new ArrayList<>(urls.size());
+        for (String url : urls) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + replicas.size());
+            replica.setJdbcUrl(url);
+            replica.setUsername(properties.determineUsername());
+            replica.setPassword(properties.determinePassword());
+            replica.setDriverClassName(properties.determineDriverClassName());
+            // useCursorFetch 등 드라이버 설정(spring.datasource.hikari.data-source-properties)도 primary 와 같다
+            replica.setDataSourceProperties(primaryDataSource.getDataSourceProperties());
+            replica.setMaximumPoolSize(maxPoolSize);
+            replica.setReadOnly(true);
+            // 응답 없는 복제본에서 기본값(30초)만큼 기다리지 않고 빨리 실패해 다음 복제본이나 primary 로 넘어간다
+            replica.setConnectionTimeout(connectionTimeout.toMillis());
+            // 검증 시간은 커넥션 대기 시간보다 짧아야 한다
+            replica.setValidationTimeout(connectionTimeout.toMillis() / 2);
+            // 기동 시 복제본이 내려가 있어도 primary 로 동작하도록 첫 연결을 미룬다
+            replica.setInitializationFailTimeout(-1);
+            replicas.add(replica);
+        }
+        ReplicaDataSource replicaDataSource = new ReplicaDataSource(primaryDataSource, replicas, ReplicaSelection.of(selection));
+        replicaDataSource.startHealthCheck(healthCheckInterval);
+        return replicaDataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaDataSource replicaDataSource) {
+        if (!replicaDataSource.hasReplicas()) {
+            return primaryDataSource;
+        }
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaDataSource);
+        return dataSource;
+    }
+
+    @Bean
+    public ReadYourWrites readYourWrites(@Value("${datasource.replicas.read-your-writes-window:0s}") Duration window) {
+        return new ReadYourWrites(window);
+    }
+}
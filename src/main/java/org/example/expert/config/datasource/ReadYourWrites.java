@@ -0,0 +1,72 @@
+package org.example.expert.config.datasource;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 사용자가 쓰기 요청을 한 뒤 window 동안은 그 사용자의 읽기 전용 트랜잭션도 primary 로 보낸다.
+ * 복제 지연 때문에 방금 저장한 데이터가 조회되지 않는 것을 막기 위한 것으로, window 가 0 이면 사용하지 않는다.
+ * 현재 스레드가 primary 를 써야 하는지는 요청 단위로 ReadYourWritesInterceptor 가 설정한다.
+ */
+public class ReadYourWrites {
+
+    private static final ThreadLocal<Boolean> PRIMARY_FORCED = new ThreadLocal<>();
+
+    private final Duration window;
+    private final Clock clock;
+    private final ConcurrentMap<Long, Long> lastWriteMillis = new ConcurrentHashMap<>();
+
+    public ReadYourWrites(Duration window) {
+        this(window, Clock.systemUTC());
+    }
+
+    ReadYourWrites(Duration window, Clock clock) {
+        this.window = window;
+        this.clock = clock;
+    }
+
+    public boolean isEnabled() {
+        return !window.isZero() && !window.isNegative();
+    }
+
+    public void recordWrite(Long userId) {
+        if (isEnabled() && userId != null) {
+            lastWriteMillis.put(userId, clock.millis());
+        }
+    }
+
+    public boolean isWithinWindow(Long userId) {
+        if (!isEnabled() || userId == null) {
+            return false;
+        }
+        Long writtenAt = lastWriteMillis.get(userId);
+        return writtenAt != null && clock.millis() - writtenAt < window.toMillis();
+    }
+
+    // window 가 지난 항목을 정리해 사용자 수만큼 계속 커지지 않게 한다
+    @Scheduled(fixedDelayString = "${datasource.replicas.read-your-writes-eviction-interval:PT1M}")
+    public void evictExpired() {
+        long now = clock.millis();
+        lastWriteMillis.values().removeIf(writtenAt -> now - writtenAt >= window.toMillis());
+    }
+
+    int size() {
+        return lastWriteMillis.size();
+    }
+
+    public static void forcePrimary(boolean force) {
+        if (force) {
+            PRIMARY_FORCED.set(Boolean.TRUE);
+        } else {
+            PRIMARY_FORCED.remove();
+        }
+    }
+
+    public static boolean isPrimaryForced() {
+        return PRIMARY_FORCED.get() != null;
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.expert.config.datasource;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.config.JwtFilter;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * 성공한 쓰기 요청(GET/HEAD/OPTIONS 외)의 사용자를 기록하고,
+ * 그 사용자의 요청이 window 안에 들어오면 요청을 처리하는 동안 읽기 전용 트랜잭션도 primary 를 사용하게 한다.
+ */
+@RequiredArgsConstructor
+public class ReadYourWritesInterceptor implements AsyncHandlerInterceptor {
+
+    private final ReadYourWrites readYourWrites;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        AuthUser authUser = authUser(request);
+        if (authUser != null && readYourWrites.isWithinWindow(authUser.getId())) {
+            ReadYourWrites.forcePrimary(true);
+        }
+        return true;
+    }
+
+    // 비동기 처리로 넘어가면 요청 스레드가 반환되므로 여기서 표시를 지운다
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        ReadYourWrites.forcePrimary(false);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        ReadYourWrites.forcePrimary(false);
+
+        AuthUser authUser = authUser(request);
+        if (authUser != null && ex == null && response.getStatus() < 400 && isWrite(request.getMethod())) {
+            readYourWrites.recordWrite(authUser.getId());
+        }
+    }
+
+    private static AuthUser authUser(HttpServletRequest request) {
+        return (AuthUser) request.getAttribute(JwtFilter.AUTH_USER_ATTRIBUTE);
+    }
+
+    private static boolean isWrite(String method) {
+        return !("GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method));
+    }
+}
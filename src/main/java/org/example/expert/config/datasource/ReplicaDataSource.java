@@ -0,0 +1,200 @@
+package org.example.expert.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * 읽기 전용 트랜잭션에 커넥션을 내어 주는 복제본 풀.
+ * 정상 상태인 복제본 중 하나를 selection 방식으로 고르고, 커넥션을 얻지 못하면 다음 복제본을 시도한다.
+ * 연결 자체가 실패한 복제본만 비정상으로 표시하고, 풀이 가득 차 대기 시간이 지난 복제본은 바쁠 뿐이므로 그대로 둔다.
+ * 사용할 수 있는 복제본이 없거나 read-your-writes 로 primary 가 지정된 요청이면 primary 를 사용한다.
+ * 비정상으로 표시된 복제본은 checkHealth 가 다시 연결에 성공하면 복구된다.
+ * checkHealth 는 @Scheduled 공용 스레드 대신 전용 스레드에서 실행해, 응답 없는 복제본을 기다리는 동안 다른 예약 작업이 밀리지 않게 한다.
+ */
+@Slf4j
+public class ReplicaDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final ReplicaSelection selection;
+    private final AtomicInteger next = new AtomicInteger();
+    private final ScheduledExecutorService healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "replica-health-check");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ReplicaDataSource(DataSource primary, List<? extends DataSource> replicas, ReplicaSelection selection) {
+        this.primary = primary;
+        this.replicas = IntStream.range(0, replicas.size())
+                .mapToObj(index -> new Replica(index, replicas.get(index)))
+                .toList();
+        this.selection = selection;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return getConnection(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return getConnection(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    private Connection getConnection(ConnectionOpener opener) throws SQLException {
+        if (!ReadYourWrites.isPrimaryForced()) {
+            for (int attempt = 0; attempt < replicas.size(); attempt++) {
+                Replica replica = select();
+                if (replica == null) {
+                    break;
+                }
+                try {
+                    return opener.open(replica.dataSource);
+                } catch (SQLException e) {
+                    if (isConnectionFailure(e)) {
+                        log.warn("복제본 연결 실패, 비정상으로 표시: replica={}", replica.index, e);
+                        replica.healthy = false;
+                    } else {
+                        log.debug("복제본 커넥션 획득 실패, 다음 복제본 시도: replica={}, message={}", replica.index, e.getMessage());
+                    }
+                }
+            }
+        }
+        return opener.open(primary);
+    }
+
+    // Hikari 는 풀이 가득 차 대기 시간이 지나도 SQLTransientConnectionException 을 던지며, 연결 실패 때문일 때만 원인(cause)이 있다
+    private static boolean isConnectionFailure(SQLException e) {
+        if (e instanceof SQLTransientConnectionException) {
+            return e.getCause() != null;
+        }
+        return e instanceof SQLNonTransientConnectionException
+                || e instanceof SQLRecoverableException
+                || (e.getSQLState() != null && e.getSQLState().startsWith("08"));
+    }
+
+    public boolean hasReplicas() {
+        return !replicas.isEmpty();
+    }
+
+    public void startHealthCheck(Duration interval) {
+        if (!hasReplicas()) {
+            return;
+        }
+        healthChecker.scheduleWithFixedDelay(() -> {
+            try {
+                checkHealth();
+            } catch (RuntimeException e) {
+                // 예외가 밖으로 나가면 이후 실행이 취소되므로 여기서 끊는다
+                log.warn("복제본 상태 확인 실패", e);
+            }
+        }, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    // 모든 복제본에 연결해 상태를 갱신한다
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            boolean healthy;
+            try (Connection connection = replica.dataSource.getConnection()) {
+                healthy = connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+            } catch (SQLException e) {
+                healthy = false;
+            }
+            if (healthy != replica.healthy) {
+                log.info("복제본 상태 변경: replica={}, healthy={}", replica.index, healthy);
+            }
+            replica.healthy = healthy;
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        healthChecker.shutdownNow();
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    int healthyCount() {
+        return (int) replicas.stream().filter(replica -> replica.healthy).count();
+    }
+
+    private Replica select() {
+        return selection == ReplicaSelection.LEAST_LOADED ? leastLoaded() : roundRobin();
+    }
+
+    private Replica roundRobin() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    private Replica leastLoaded() {
+        Replica selected = null;
+        int selectedLoad = Integer.MAX_VALUE;
+        for (Replica replica : replicas) {
+            if (!replica.healthy) {
+                continue;
+            }
+            int load = replica.activeConnections();
+            if (load < selectedLoad) {
+                selected = replica;
+                selectedLoad = load;
+            }
+        }
+        return selected;
+    }
+
+    @FunctionalInterface
+    private interface ConnectionOpener {
+        Connection open(DataSource dataSource) throws SQLException;
+    }
+
+    private static final class Replica {
+
+        private final int index;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+
+        private Replica(int index, DataSource dataSource) {
+            this.index = index;
+            this.dataSource = dataSource;
+        }
+
+        // Hikari 풀이 아니거나 아직 초기화되지 않았으면 사용 중인 커넥션이 없는 것으로 본다
+        int activeConnections() {
+            if (dataSource instanceof HikariDataSource hikari) {
+                HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+                return pool == null ? 0 : pool.getActiveConnections();
+            }
+            return 0;
+        }
+    }
+}
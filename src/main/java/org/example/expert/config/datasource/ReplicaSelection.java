@@ -0,0 +1,18 @@
+package org.example.expert.config.datasource;
+
+import java.util.Arrays;
+
+/**
+ * 읽기 전용 트랜잭션에 사용할 복제본을 고르는 방식.
+ * ROUND_ROBIN 은 정상 복제본을 차례대로, LEAST_LOADED 는 사용 중인 커넥션이 가장 적은 복제본을 고른다.
+ */
+public enum ReplicaSelection {
+    ROUND_ROBIN, LEAST_LOADED;
+
+    public static ReplicaSelection of(String selection) {
+        return Arrays.stream(ReplicaSelection.values())
+                .filter(s -> s.name().equalsIgnoreCase(selection.replace('-', '_')))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 복제본 선택 방식입니다: " + selection));
+    }
+}
@@ -1,23 +1,36 @@
 package org.example.expert.domain.comment.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.config.IoExecutors;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
+import org.example.expert.domain.comment.dto.response.CommentSliceResponse;
 import org.example.expert.domain.comment.service.CommentService;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.ResourceVersion;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequiredArgsConstructor
 public class CommentController {
 
     private final CommentService commentService;
+    private final ObjectMapper objectMapper;
+    private final IoExecutors ioExecutors;
 
     @PostMapping("/todos/{todoId}/comments")
     public ResponseEntity<CommentSaveResponse> saveComment(
@@ -28,8 +41,47 @@ public class CommentController {
         return ResponseEntity.ok(commentService.saveComment(authUser, todoId, commentSaveRequest));
     }
 
+    // 댓글 집계 값만 조회해 If-None-Match 와 같으면 목록을 조회하지 않고 304 를 반환한다
     @GetMapping("/todos/{todoId}/comments")
-    public ResponseEntity<List<CommentResponse>> getComments(@PathVariable long todoId) {
-        return ResponseEntity.ok(commentService.getComments(todoId));
+    public ResponseEntity<List<CommentResponse>> getComments(@PathVariable long todoId, WebRequest webRequest) {
+        return ResourceVersion.okIfModified(commentService.getCommentsVersion(todoId), webRequest,
+                () -> commentService.getComments(todoId));
+    }
+
+    // async=true 변형은 요청 스레드를 바로 반환하고 조회 트랜잭션을 IoExecutors 의 db 풀에서 실행한다
+    @GetMapping(value = "/todos/{todoId}/comments", params = {"async=true", "!cursor", "!stream"})
+    public CompletableFuture<ResponseEntity<List<CommentResponse>>> getCommentsAsync(@PathVariable long todoId) {
+        return ioExecutors.supplyDb(() -> ResponseEntity.ok(commentService.getComments(todoId)));
+    }
+
+    // cursor 파라미터가 있으면 keyset 페이지네이션으로 조회한다. 첫 페이지는 빈 값(?cursor=)으로 요청
+    @GetMapping(value = "/todos/{todoId}/comments", params = "cursor")
+    public ResponseEntity<CommentSliceResponse> getCommentsByCursor(
+            @PathVariable long todoId,
+            @RequestParam(defaultValue = "") String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(commentService.getCommentsByCursor(todoId, cursor, size));
+    }
+
+    // 전체 댓글을 메모리에 모으지 않고 읽는 즉시 JSON 배열로 응답에 기록한다
+    @GetMapping(value = "/todos/{todoId}/comments", params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamComments(@PathVariable long todoId) {
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+                generator.writeStartArray();
+                commentService.streamComments(todoId, comment -> {
+                    try {
+                        generator.writeObject(comment);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                generator.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
     }
 }
@@ -0,0 +1,19 @@
+package org.example.expert.domain.comment.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class CommentSliceResponse {
+
+    private final List<CommentResponse> content;
+    private final boolean hasNext;
+    private final String nextCursor;
+
+    public CommentSliceResponse(List<CommentResponse> content, boolean hasNext, String nextCursor) {
+        this.content = content;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+}
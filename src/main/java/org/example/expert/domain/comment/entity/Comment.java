@@ -10,10 +10,12 @@ import org.example.expert.domain.user.entity.User;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "comments")
+@Table(name = "comments", indexes = @Index(name = "idx_comments_todo_id_created_at_id", columnList = "todo_id, createdAt, id"))
 public class Comment extends Timestamped {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "comments_id")
+    @TableGenerator(name = "comments_id", table = "id_sequences", pkColumnValue = "comments", allocationSize = 50)
     private Long id;
     private String contents;
 
@@ -1,14 +1,69 @@
 package org.example.expert.domain.comment.repository;
 
+import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.common.dto.CollectionVersion;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
+    String SELECT_COMMENT_RESPONSE = "SELECT new org.example.expert.domain.comment.dto.response.CommentResponse(" +
+            "c.id, c.contents, u.id, u.email, c.createdAt) " +
+            "FROM Comment c JOIN c.user u ";
+
     @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId")
     List<Comment> findByTodoIdWithUser(@Param("todoId") Long todoId);
+
+    @Query(SELECT_COMMENT_RESPONSE + "WHERE c.todo.id = :todoId ORDER BY c.createdAt, c.id")
+    List<CommentResponse> findResponsesByTodoId(@Param("todoId") Long todoId);
+
+    // keyset 페이지네이션: (todo_id, createdAt, id) 복합 인덱스 순서대로 읽는다
+    @Query(SELECT_COMMENT_RESPONSE + "WHERE c.todo.id = :todoId ORDER BY c.createdAt, c.id")
+    List<CommentResponse> findFirstSliceByTodoId(@Param("todoId") Long todoId, Limit limit);
+
+    @Query(SELECT_COMMENT_RESPONSE +
+            "WHERE c.todo.id = :todoId " +
+            "AND c.createdAt >= :createdAt AND (c.createdAt > :createdAt OR c.id > :id) " +
+            "ORDER BY c.createdAt, c.id")
+    List<CommentResponse> findSliceByTodoIdAfter(
+            @Param("todoId") Long todoId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Limit limit
+    );
+
+    // 결과를 한 번에 메모리에 올리지 않고 fetch size 단위로 읽는다. 트랜잭션 안에서 사용하고 반드시 close 해야 한다
+    // MySQL Connector/J 는 useCursorFetch=true 여야 fetch size 단위로 가져온다 (spring.datasource.hikari.data-source-properties, 복제본도 같은 설정)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(SELECT_COMMENT_RESPONSE + "WHERE c.todo.id = :todoId ORDER BY c.createdAt, c.id")
+    Stream<CommentResponse> streamResponsesByTodoId(@Param("todoId") Long todoId);
+
+    // ETag 계산용: 댓글 목록을 만들지 않고 todo_id 인덱스 범위의 집계 값만 조회한다
+    @Query("SELECT new org.example.expert.domain.common.dto.CollectionVersion(COUNT(c), MAX(c.id), MAX(c.modifiedAt)) " +
+            "FROM Comment c WHERE c.todo.id = :todoId")
+    CollectionVersion findVersionByTodoId(@Param("todoId") Long todoId);
+
+    @Query("SELECT c.todo.id FROM Comment c WHERE c.id = :commentId")
+    Optional<Long> findTodoIdById(@Param("commentId") Long commentId);
+
+    // 엔티티를 로딩하지 않고 삭제하며, 삭제된 행 수로 동시에 들어온 중복 삭제를 구분한다
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.id = :commentId")
+    int deleteOneById(@Param("commentId") Long commentId);
+
+    // Todo 삭제 시 (todo_id, createdAt, id) 인덱스만 읽어 삭제할 댓글 id 를 청크 단위로 가져온다
+    @Query("SELECT c.id FROM Comment c WHERE c.todo.id = :todoId")
+    List<Long> findIdsByTodoId(@Param("todoId") Long todoId, Limit limit);
 }
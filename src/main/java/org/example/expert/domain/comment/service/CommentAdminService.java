@@ -2,6 +2,7 @@ package org.example.expert.domain.comment.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.todo.repository.TodoRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -10,9 +11,15 @@ import org.springframework.transaction.annotation.Transactional;
 public class CommentAdminService {
 
     private final CommentRepository commentRepository;
+    private final TodoRepository todoRepository;
 
+    // 실제로 삭제한 경우에만 댓글 수를 줄여, 같은 댓글을 동시에 삭제해도 카운터가 두 번 줄지 않게 한다
     @Transactional
     public void deleteComment(long commentId) {
-        commentRepository.deleteById(commentId);
+        commentRepository.findTodoIdById(commentId).ifPresent(todoId -> {
+            if (commentRepository.deleteOneById(commentId) > 0) {
+                todoRepository.addCommentCount(todoId, -1);
+            }
+        });
     }
 }
@@ -4,19 +4,27 @@ import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
+import org.example.expert.domain.comment.dto.response.CommentSliceResponse;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CollectionVersion;
+import org.example.expert.domain.common.dto.KeysetCursor;
+import org.example.expert.domain.common.dto.ResourceVersion;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -38,6 +46,7 @@ public class CommentService {
         );
 
         Comment savedComment = commentRepository.save(newComment);
+        todoRepository.addCommentCount(todoId, 1);
 
         return new CommentSaveResponse(
                 savedComment.getId(),
@@ -48,18 +57,52 @@ public class CommentService {
 
     @Transactional(readOnly = true)
     public List<CommentResponse> getComments(long todoId) {
-        List<Comment> commentList = commentRepository.findByTodoIdWithUser(todoId);
-
-        List<CommentResponse> dtoList = new ArrayList<>();
-        for (Comment comment : commentList) {
-            User user = comment.getUser();
-            CommentResponse dto = new CommentResponse(
-                    comment.getId(),
-                    comment.getContents(),
-                    new UserResponse(user.getId(), user.getEmail())
-            );
-            dtoList.add(dto);
+        return commentRepository.findResponsesByTodoId(todoId);
+    }
+
+    // If-None-Match 비교용 버전. 댓글 수, 최대 id, 최근 수정일로 추가/삭제/수정을 모두 구분한다
+    @Transactional(readOnly = true)
+    public Optional<ResourceVersion> getCommentsVersion(long todoId) {
+        CollectionVersion version = commentRepository.findVersionByTodoId(todoId);
+        return Optional.of(ResourceVersion.of("comments", version.count(), version.maxId(), version.lastModifiedAt()));
+    }
+
+    @Transactional(readOnly = true)
+    public CommentSliceResponse getCommentsByCursor(long todoId, String cursor, int size) {
+        if (size < 1) {
+            throw new InvalidRequestException("size 는 1 이상이어야 합니다.");
+        }
+
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회
+        Limit limit = Limit.of(size + 1);
+
+        List<CommentResponse> comments;
+        if (StringUtils.hasText(cursor)) {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            comments = commentRepository.findSliceByTodoIdAfter(todoId, after.time(), after.id(), limit);
+        } else {
+            comments = commentRepository.findFirstSliceByTodoId(todoId, limit);
+        }
+
+        boolean hasNext = comments.size() > size;
+        if (hasNext) {
+            comments = comments.subList(0, size);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            CommentResponse last = comments.get(comments.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return new CommentSliceResponse(comments, hasNext, nextCursor);
+    }
+
+    // 조회되는 댓글을 하나씩 consumer 에 넘기며, consumer 가 끝날 때까지 트랜잭션과 결과 커서를 유지한다
+    @Transactional(readOnly = true)
+    public void streamComments(long todoId, Consumer<CommentResponse> consumer) {
+        try (Stream<CommentResponse> comments = commentRepository.streamResponsesByTodoId(todoId)) {
+            comments.forEach(consumer);
         }
-        return dtoList;
     }
 }
@@ -0,0 +1,15 @@
+package org.example.expert.domain.common.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 하위 목록(댓글, 담당자)의 버전을 만들기 위한 집계 값.
+ * 추가는 maxId, 삭제는 count, 수정은 lastModifiedAt 이 바뀌므로 목록을 읽지 않고도 변경 여부를 알 수 있다.
+ * 수정일이 없는 엔티티는 lastModifiedAt 이 null 이다.
+ */
+public record CollectionVersion(Long count, Long maxId, LocalDateTime lastModifiedAt) {
+
+    public CollectionVersion(Long count, Long maxId) {
+        this(count, maxId, null);
+    }
+}
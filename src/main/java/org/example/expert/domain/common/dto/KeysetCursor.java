@@ -0,0 +1,35 @@
+package org.example.expert.domain.common.dto;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * (시각, id) 기준 keyset 페이지네이션의 커서.
+ * 마지막으로 내려준 항목의 정렬 기준 시각과 id 를 담으며, 클라이언트에는 Base64URL 로 인코딩된 불투명한 문자열로 전달한다.
+ */
+public record KeysetCursor(LocalDateTime time, Long id) {
+
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        String raw = time.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidRequestException("잘못된 커서입니다.");
+        }
+    }
+}
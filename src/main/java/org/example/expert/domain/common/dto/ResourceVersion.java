@@ -0,0 +1,44 @@
+package org.example.expert.domain.common.dto;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.function.Supplier;
+
+/**
+ * 조회 응답의 버전. 본문을 만들지 않고 DB 에서 싸게 읽을 수 있는 값(수정일, 개수, 최대 id 등)으로 만들고 strong ETag 로 내려준다.
+ * 응답에 담기는 필드가 바뀌면 REPRESENTATION 을 올려 이전 형식으로 캐시된 ETag 가 일치하지 않게 한다.
+ */
+public record ResourceVersion(String value) {
+
+    private static final String REPRESENTATION = "v1";
+
+    public static ResourceVersion of(String resource, Object... parts) {
+        StringJoiner joiner = new StringJoiner("-");
+        joiner.add(REPRESENTATION).add(resource);
+        for (Object part : parts) {
+            joiner.add(String.valueOf(part));
+        }
+        return new ResourceVersion(joiner.toString());
+    }
+
+    public String eTag() {
+        return "\"" + value + "\"";
+    }
+
+    // If-None-Match 가 현재 버전과 일치하면 body 를 호출하지 않고 304 를 반환한다. 버전을 알 수 없으면 항상 body 를 내려준다
+    public static <T> ResponseEntity<T> okIfModified(Optional<ResourceVersion> version, WebRequest request, Supplier<T> body) {
+        if (version.isEmpty()) {
+            return ResponseEntity.ok(body.get());
+        }
+        String eTag = version.get().eTag();
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(CacheControl.noCache()).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).cacheControl(CacheControl.noCache()).body(body.get());
+    }
+}
@@ -5,4 +5,8 @@ public class ServerException extends RuntimeException {
     public ServerException(String message) {
         super(message);
     }
+
+    public ServerException(String message, Throwable cause) {
+        super(message, cause);
+    }
 }
@@ -3,17 +3,21 @@ package org.example.expert.domain.manager.controller;
 import io.jsonwebtoken.Claims;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.config.IoExecutors;
 import org.example.expert.config.JwtUtil;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.ResourceVersion;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.service.ManagerService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequiredArgsConstructor
@@ -21,6 +25,7 @@ public class ManagerController {
 
     private final ManagerService managerService;
     private final JwtUtil jwtUtil;
+    private final IoExecutors ioExecutors;
 
     @PostMapping("/todos/{todoId}/managers")
     public ResponseEntity<ManagerSaveResponse> saveManager(
@@ -31,9 +36,17 @@ public class ManagerController {
         return ResponseEntity.ok(managerService.saveManager(authUser, todoId, managerSaveRequest));
     }
 
+    // 담당자 수와 최대 id 만 조회해 If-None-Match 와 같으면 목록을 조회하지 않고 304 를 반환한다
     @GetMapping("/todos/{todoId}/managers")
-    public ResponseEntity<List<ManagerResponse>> getMembers(@PathVariable long todoId) {
-        return ResponseEntity.ok(managerService.getManagers(todoId));
+    public ResponseEntity<List<ManagerResponse>> getMembers(@PathVariable long todoId, WebRequest webRequest) {
+        return ResourceVersion.okIfModified(managerService.getManagersVersion(todoId), webRequest,
+                () -> managerService.getManagers(todoId));
+    }
+
+    // async=true 변형은 요청 스레드를 바로 반환하고 조회 트랜잭션을 IoExecutors 의 db 풀에서 실행한다
+    @GetMapping(value = "/todos/{todoId}/managers", params = "async=true")
+    public CompletableFuture<ResponseEntity<List<ManagerResponse>>> getMembersAsync(@PathVariable long todoId) {
+        return ioExecutors.supplyDb(() -> ResponseEntity.ok(managerService.getManagers(todoId)));
     }
 
     @DeleteMapping("/todos/{todoId}/managers/{managerId}")
@@ -0,0 +1,15 @@
+package org.example.expert.domain.manager.dto;
+
+/**
+ * 담당자 등록 검증용 조회 결과. 등록할 유저가 없으면 userId 와 email 이 null 이다.
+ */
+public record ManagerCandidate(Long todoOwnerId, Long userId, String email, Long assignedCount) {
+
+    public boolean userExists() {
+        return userId != null;
+    }
+
+    public boolean alreadyAssigned() {
+        return assignedCount > 0;
+    }
+}
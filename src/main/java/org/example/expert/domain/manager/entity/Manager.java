@@ -12,7 +12,9 @@ import org.example.expert.domain.user.entity.User;
 @Table(name = "managers")
 public class Manager {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "managers_id")
+    @TableGenerator(name = "managers_id", table = "id_sequences", pkColumnValue = "managers", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
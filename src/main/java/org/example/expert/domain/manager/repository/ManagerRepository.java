@@ -1,9 +1,14 @@
 package org.example.expert.domain.manager.repository;
 
+import org.example.expert.domain.common.dto.CollectionVersion;
+import org.example.expert.domain.manager.dto.ManagerCandidate;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.entity.Manager;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -12,6 +17,32 @@ public interface ManagerRepository extends JpaRepository<Manager, Long> {
     @Query("SELECT m FROM Manager m JOIN FETCH m.user WHERE m.todo.id = :todoId")
     List<Manager> findByTodoIdWithUser(@Param("todoId") Long todoId);
 
-    @Query("SELECT m FROM Manager m JOIN FETCH m.todo WHERE m.id = :managerId AND  m.todo.id = :todoId")
-    Optional<Manager> findByIdAndTodoId(@Param("managerId") Long managerId, @Param("todoId") Long todoId);
+    // Todo 를 기준으로 담당자를 LEFT JOIN 해 한 번에 조회한다
+    // Todo 가 없으면 0행, 담당자가 없으면 id 가 null 인 1행이 반환되므로 존재 확인 쿼리를 따로 실행하지 않는다
+    @Query("SELECT new org.example.expert.domain.manager.dto.response.ManagerResponse(m.id, u.id, u.email) " +
+            "FROM Todo t LEFT JOIN Manager m ON m.todo = t LEFT JOIN m.user u WHERE t.id = :todoId")
+    List<ManagerResponse> findResponsesWithTodoByTodoId(@Param("todoId") Long todoId);
+
+    // 담당자 등록 전 검증에 필요한 값(일정 작성자, 등록할 유저, 중복 등록 여부)을 한 번에 조회한다. Todo 가 없으면 빈 값
+    @Query("SELECT new org.example.expert.domain.manager.dto.ManagerCandidate(" +
+            "t.user.id, u.id, u.email, " +
+            "(SELECT COUNT(m) FROM Manager m WHERE m.todo.id = t.id AND m.user.id = :managerUserId)) " +
+            "FROM Todo t LEFT JOIN User u ON u.id = :managerUserId WHERE t.id = :todoId")
+    Optional<ManagerCandidate> findCandidate(@Param("todoId") Long todoId, @Param("managerUserId") Long managerUserId);
+
+    // ETag 계산용: Todo 가 없으면(삭제 포함) 빈 값을 반환하고, 있으면 담당자 수와 최대 id 만 집계한다
+    @Query("SELECT new org.example.expert.domain.common.dto.CollectionVersion(COUNT(m), MAX(m.id)) " +
+            "FROM Todo t LEFT JOIN Manager m ON m.todo = t WHERE t.id = :todoId GROUP BY t.id")
+    Optional<CollectionVersion> findVersionByTodoId(@Param("todoId") Long todoId);
+
+    // 일정 작성자 확인과 삭제를 한 문장으로 처리하고 삭제된 행 수를 반환한다
+    @Modifying
+    @Query("DELETE FROM Manager m WHERE m.id = :managerId " +
+            "AND m.todo.id IN (SELECT t.id FROM Todo t WHERE t.id = :todoId AND t.user.id = :userId)")
+    int deleteByIdAndTodoOwner(@Param("managerId") Long managerId, @Param("todoId") Long todoId, @Param("userId") Long userId);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Manager m WHERE m.todo.id = :todoId")
+    int deleteAllByTodoId(@Param("todoId") Long todoId);
 }
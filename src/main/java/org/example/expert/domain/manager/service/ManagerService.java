@@ -2,13 +2,14 @@ package org.example.expert.domain.manager.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.ResourceVersion;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.dto.ManagerCandidate;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.entity.Manager;
 import org.example.expert.domain.manager.repository.ManagerRepository;
-import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
@@ -17,8 +18,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.ObjectUtils;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -28,59 +29,74 @@ public class ManagerService {
 	private final UserRepository userRepository;
 	private final TodoRepository todoRepository;
 
+	// 작성자 확인, 등록할 유저 존재 여부, 중복 등록 여부를 findCandidate 한 번으로 확인하고 Todo/User 는 로딩하지 않고 참조만 사용한다
 	@Transactional
 	public ManagerSaveResponse saveManager(AuthUser authUser, long todoId, ManagerSaveRequest managerSaveRequest) {
 		// 일정을 만든 유저
 		User user = User.fromAuthUser(authUser);
-		Todo todo = todoRepository.findById(todoId)
+		Long managerUserId = managerSaveRequest.getManagerUserId();
+
+		ManagerCandidate candidate = managerRepository.findCandidate(todoId, managerUserId)
 			.orElseThrow(() -> new InvalidRequestException("Todo not found"));
 
-		if (todo.getUser() == null || !ObjectUtils.nullSafeEquals(user.getId(), todo.getUser().getId())) {
+		if (!ObjectUtils.nullSafeEquals(user.getId(), candidate.todoOwnerId())) {
 			throw new InvalidRequestException("일정을 생성한 유저만 담당자를 지정할 수 있습니다.");
 		}
 
-		User managerUser = userRepository.findById(managerSaveRequest.getManagerUserId())
-			.orElseThrow(() -> new InvalidRequestException("등록하려고 하는 담당자 유저가 존재하지 않습니다."));
+		if (!candidate.userExists()) {
+			throw new InvalidRequestException("등록하려고 하는 담당자 유저가 존재하지 않습니다.");
+		}
 
-		if (ObjectUtils.nullSafeEquals(user.getId(), managerUser.getId())) {
+		if (ObjectUtils.nullSafeEquals(user.getId(), candidate.userId())) {
 			throw new InvalidRequestException("일정 작성자는 본인을 담당자로 등록할 수 없습니다.");
 		}
 
-		Manager newManagerUser = new Manager(managerUser, todo);
+		if (candidate.alreadyAssigned()) {
+			throw new InvalidRequestException("이미 담당자로 등록된 유저입니다.");
+		}
+
+		Manager newManagerUser = new Manager(
+			userRepository.getReferenceById(managerUserId),
+			todoRepository.getReferenceById(todoId)
+		);
 		Manager savedManagerUser = managerRepository.save(newManagerUser);
+		todoRepository.addManagerCount(todoId, 1);
 
 		return new ManagerSaveResponse(
 			savedManagerUser.getId(),
-			new UserResponse(managerUser.getId(), managerUser.getEmail())
+			new UserResponse(candidate.userId(), candidate.email())
 		);
 	}
 
 	@Transactional(readOnly = true)
 	public List<ManagerResponse> getManagers(long todoId) {
-		Todo todo = todoRepository.findById(todoId)
-			.orElseThrow(() -> new InvalidRequestException("Todo not found"));
+		List<ManagerResponse> rows = managerRepository.findResponsesWithTodoByTodoId(todoId);
+		if (rows.isEmpty()) {
+			throw new InvalidRequestException("Todo not found");
+		}
 
-		List<Manager> managerList = managerRepository.findByTodoIdWithUser(todo.getId());
+		// 담당자가 없는 Todo 는 id 가 null 인 행 하나만 반환된다
+		return rows.stream()
+			.filter(manager -> manager.getId() != null)
+			.toList();
+	}
 
-		List<ManagerResponse> dtoList = new ArrayList<>();
-		for (Manager manager : managerList) {
-			User user = manager.getUser();
-			dtoList.add(new ManagerResponse(
-				manager.getId(),
-				new UserResponse(user.getId(), user.getEmail())
-			));
-		}
-		return dtoList;
+	// If-None-Match 비교용 버전. 담당자는 추가/삭제만 되므로 수와 최대 id 로 충분하다
+	@Transactional(readOnly = true)
+	public Optional<ResourceVersion> getManagersVersion(long todoId) {
+		return managerRepository.findVersionByTodoId(todoId)
+			.map(version -> ResourceVersion.of("managers", version.count(), version.maxId()));
 	}
 
+	// 성공하면 DELETE 한 번으로 끝나고, 삭제된 행이 없을 때만 원인을 구분하기 위해 한 번 더 조회한다
 	@Transactional
 	public void deleteManager(long userId, long todoId, long managerId) {
-		Todo todo = todoRepository.findByIdAndUserId(todoId, userId)
-			.orElseThrow(() -> new InvalidRequestException("해당 일정을 만든 유저가 유효하지 않습니다."));
-
-		Manager manager = managerRepository.findByIdAndTodoId(managerId, todo.getId())
-			.orElseThrow(() -> new InvalidRequestException("해당 일정에 등록된 담당자가 아닙니다."));
-
-		managerRepository.delete(manager);
+		if (managerRepository.deleteByIdAndTodoOwner(managerId, todoId, userId) == 0) {
+			if (!todoRepository.existsByIdAndUserId(todoId, userId)) {
+				throw new InvalidRequestException("해당 일정을 만든 유저가 유효하지 않습니다.");
+			}
+			throw new InvalidRequestException("해당 일정에 등록된 담당자가 아닙니다.");
+		}
+		todoRepository.addManagerCount(todoId, -1);
 	}
 }
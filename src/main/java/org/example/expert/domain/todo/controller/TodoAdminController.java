@@ -0,0 +1,23 @@
+package org.example.expert.domain.todo.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.config.aop.AdminLog;
+import org.example.expert.domain.todo.service.TodoSearchIndexRebuilder;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class TodoAdminController {
+
+    private final TodoSearchIndexRebuilder todoSearchIndexRebuilder;
+
+    // 재구성은 백그라운드에서 진행되므로 시작만 하고 202 를 반환한다
+    @AdminLog
+    @PostMapping("/admin/todos/search-index/rebuild")
+    public ResponseEntity<Void> rebuildSearchIndex() {
+        todoSearchIndexRebuilder.rebuildAsync();
+        return ResponseEntity.accepted().build();
+    }
+}
@@ -1,22 +1,47 @@
 package org.example.expert.domain.todo.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.config.IoExecutors;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.ResourceVersion;
+import org.example.expert.domain.todo.dto.request.TodoBulkSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoFilter;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBulkSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoPageResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoSliceResponse;
+import org.example.expert.domain.todo.enums.TodoCountMode;
+import org.example.expert.domain.todo.enums.TodoExportFormat;
 import org.example.expert.domain.todo.service.TodoService;
-import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequiredArgsConstructor
 public class TodoController {
 
     private final TodoService todoService;
+    private final ObjectMapper objectMapper;
+    private final IoExecutors ioExecutors;
 
     @PostMapping("/todos")
     public ResponseEntity<TodoSaveResponse> saveTodo(
@@ -26,16 +51,115 @@ public class TodoController {
         return ResponseEntity.ok(todoService.saveTodo(authUser, todoSaveRequest));
     }
 
+    // async=true 변형은 요청 스레드를 바로 반환하고 날씨 조회와 저장을 IoExecutors 에서 처리한다
+    @PostMapping(value = "/todos", params = "async=true")
+    public CompletableFuture<ResponseEntity<TodoSaveResponse>> saveTodoAsync(
+            @Auth AuthUser authUser,
+            @Valid @RequestBody TodoSaveRequest todoSaveRequest
+    ) {
+        return todoService.saveTodoAsync(authUser, todoSaveRequest).thenApply(ResponseEntity::ok);
+    }
+
+    // 최대 TodoBulkSaveRequest.MAX_SIZE 건을 한 번에 등록하고 항목별 결과를 요청 순서대로 반환한다
+    @PostMapping("/todos/bulk")
+    public ResponseEntity<TodoBulkSaveResponse> saveTodos(
+            @Auth AuthUser authUser,
+            @Valid @RequestBody TodoBulkSaveRequest todoBulkSaveRequest
+    ) {
+        return ResponseEntity.ok(todoService.saveTodos(authUser, todoBulkSaveRequest));
+    }
+
+    // weather, from/to(수정일, from 이상 to 미만), userId 조건은 모두 선택
     @GetMapping("/todos")
-    public ResponseEntity<Page<TodoResponse>> getTodos(
+    public ResponseEntity<TodoPageResponse> getTodos(
             @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "exact") String count,
+            @RequestParam(required = false) String weather,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) Long userId
+    ) {
+        TodoFilter filter = new TodoFilter(weather, from, to, userId);
+        return ResponseEntity.ok(todoService.getTodos(page, size, TodoCountMode.of(count), filter));
+    }
+
+    @GetMapping(value = "/todos", params = {"async=true", "!cursor"})
+    public CompletableFuture<ResponseEntity<TodoPageResponse>> getTodosAsync(
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "exact") String count,
+            @RequestParam(required = false) String weather,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) Long userId
+    ) {
+        TodoCountMode countMode = TodoCountMode.of(count);
+        TodoFilter filter = new TodoFilter(weather, from, to, userId);
+        return ioExecutors.supplyDb(() -> ResponseEntity.ok(todoService.getTodos(page, size, countMode, filter)));
+    }
+
+    // cursor 파라미터가 있으면 keyset 페이지네이션으로 조회한다. 첫 페이지는 빈 값(?cursor=)으로 요청
+    @GetMapping(value = "/todos", params = "cursor")
+    public ResponseEntity<TodoSliceResponse> getTodosByCursor(
+            @RequestParam(defaultValue = "") String cursor,
             @RequestParam(defaultValue = "10") int size
     ) {
-        return ResponseEntity.ok(todoService.getTodos(page, size));
+        return ResponseEntity.ok(todoService.getTodosByCursor(cursor, size));
+    }
+
+    // q 의 모든 단어를 제목 또는 내용에 포함하는 Todo 를 관련도 순으로 반환한다. 끝이 * 인 단어는 접두사로 검색
+    @GetMapping("/todos/search")
+    public ResponseEntity<List<TodoResponse>> searchTodos(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(todoService.searchTodos(q, size));
+    }
+
+    // 전체 Todo 를 한 번의 조회로 읽으면서 바로 응답에 기록한다
+    @GetMapping("/todos/export")
+    public ResponseEntity<StreamingResponseBody> exportTodos(@RequestParam(defaultValue = "ndjson") String format) {
+        TodoExportFormat exportFormat = TodoExportFormat.of(format);
+
+        StreamingResponseBody body = outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            exportFormat.writeHeader(writer);
+            todoService.exportTodos(todo -> {
+                try {
+                    exportFormat.writeRow(writer, todo, objectMapper);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"todos." + exportFormat.name().toLowerCase() + "\"")
+                .body(body);
     }
 
+    // 수정일만 조회해 If-None-Match 와 같으면 Todo 를 조회하지 않고 304 를 반환한다
     @GetMapping("/todos/{todoId}")
-    public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId) {
-        return ResponseEntity.ok(todoService.getTodo(todoId));
+    public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId, WebRequest webRequest) {
+        return ResourceVersion.okIfModified(todoService.getTodoVersion(todoId), webRequest,
+                () -> todoService.getTodo(todoId));
+    }
+
+    @GetMapping(value = "/todos/{todoId}", params = "async=true")
+    public CompletableFuture<ResponseEntity<TodoResponse>> getTodoAsync(@PathVariable long todoId) {
+        return ioExecutors.supplyDb(() -> ResponseEntity.ok(todoService.getTodo(todoId)));
+    }
+
+    // async=true 이면 삭제 표시 후 바로 202 를 반환하고, 댓글/담당자/Todo 행은 백그라운드에서 삭제한다
+    @DeleteMapping("/todos/{todoId}")
+    public ResponseEntity<Void> deleteTodo(
+            @Auth AuthUser authUser,
+            @PathVariable long todoId,
+            @RequestParam(defaultValue = "false") boolean async
+    ) {
+        todoService.deleteTodo(authUser, todoId, async);
+        return async ? ResponseEntity.accepted().build() : ResponseEntity.ok().build();
     }
 }
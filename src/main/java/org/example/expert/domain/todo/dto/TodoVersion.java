@@ -0,0 +1,9 @@
+package org.example.expert.domain.todo.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Todo 단건 응답의 버전을 만들기 위한 값. 응답에 담기는 댓글/담당자 수가 바뀌어도 ETag 가 바뀌도록 카운터를 함께 담는다.
+ */
+public record TodoVersion(LocalDateTime modifiedAt, Long commentCount, Long managerCount) {
+}
@@ -0,0 +1,22 @@
+package org.example.expert.domain.todo.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoBulkSaveRequest {
+
+    public static final int MAX_SIZE = 1000;
+
+    // 항목별 검증 결과를 응답에 담기 위해 개별 TodoSaveRequest 는 @Valid 로 검증하지 않는다
+    @NotEmpty
+    @Size(max = MAX_SIZE)
+    private List<TodoSaveRequest> todos;
+}
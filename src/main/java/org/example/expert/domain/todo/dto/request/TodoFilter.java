@@ -0,0 +1,23 @@
+package org.example.expert.domain.todo.dto.request;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+import java.time.LocalDateTime;
+
+/**
+ * Todo 목록 조회 조건. 모든 값은 선택이며, 수정일은 from 이상 to 미만 범위로 조회한다.
+ */
+public record TodoFilter(String weather, LocalDateTime from, LocalDateTime to, Long userId) {
+
+    public static final TodoFilter NONE = new TodoFilter(null, null, null, null);
+
+    public TodoFilter {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new InvalidRequestException("from 은 to 보다 이전이어야 합니다.");
+        }
+    }
+
+    public boolean isEmpty() {
+        return weather == null && from == null && to == null && userId == null;
+    }
+}
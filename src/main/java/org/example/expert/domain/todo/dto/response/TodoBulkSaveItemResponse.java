@@ -0,0 +1,25 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class TodoBulkSaveItemResponse {
+
+    private final int index;
+    private final Long id;
+    private final String errorMessage;
+
+    private TodoBulkSaveItemResponse(int index, Long id, String errorMessage) {
+        this.index = index;
+        this.id = id;
+        this.errorMessage = errorMessage;
+    }
+
+    public static TodoBulkSaveItemResponse saved(int index, Long id) {
+        return new TodoBulkSaveItemResponse(index, id, null);
+    }
+
+    public static TodoBulkSaveItemResponse failed(int index, String errorMessage) {
+        return new TodoBulkSaveItemResponse(index, null, errorMessage);
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class TodoBulkSaveResponse {
+
+    private final String weather;
+    private final int savedCount;
+    private final int failedCount;
+    private final List<TodoBulkSaveItemResponse> results;
+
+    public TodoBulkSaveResponse(String weather, int savedCount, int failedCount, List<TodoBulkSaveItemResponse> results) {
+        this.weather = weather;
+        this.savedCount = savedCount;
+        this.failedCount = failedCount;
+        this.results = results;
+    }
+}
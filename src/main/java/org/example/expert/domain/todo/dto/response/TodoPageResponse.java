@@ -0,0 +1,50 @@
+package org.example.expert.domain.todo.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * GET /todos 응답. count=exact(기본값)는 Page 를 VIA_DTO 로 직렬화한 기존 응답({content, page})과 같은 형태다.
+ * count=approx/none 이면 hasNext 를 덧붙이고, none 은 전체 건수를 세지 않으므로 page.totalElements, page.totalPages 가 null 이다.
+ */
+@Getter
+public class TodoPageResponse {
+
+    private final List<TodoResponse> content;
+    private final PageMetadata page;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Boolean hasNext;
+
+    private TodoPageResponse(List<TodoResponse> content, PageMetadata page, Boolean hasNext) {
+        this.content = content;
+        this.page = page;
+        this.hasNext = hasNext;
+    }
+
+    public static TodoPageResponse exact(Page<TodoResponse> todos) {
+        return new TodoPageResponse(todos.getContent(),
+                new PageMetadata(todos.getSize(), todos.getNumber(), todos.getTotalElements(), (long) todos.getTotalPages()),
+                null);
+    }
+
+    public static TodoPageResponse approximate(Slice<TodoResponse> todos, long totalElements) {
+        long totalPages = (totalElements + todos.getSize() - 1) / todos.getSize();
+        return new TodoPageResponse(todos.getContent(),
+                new PageMetadata(todos.getSize(), todos.getNumber(), totalElements, totalPages),
+                todos.hasNext());
+    }
+
+    public static TodoPageResponse withoutCount(Slice<TodoResponse> todos) {
+        return new TodoPageResponse(todos.getContent(),
+                new PageMetadata(todos.getSize(), todos.getNumber(), null, null),
+                todos.hasNext());
+    }
+
+    // number 는 Page 와 같이 0 부터 센다
+    public record PageMetadata(long size, long number, Long totalElements, Long totalPages) {
+    }
+}
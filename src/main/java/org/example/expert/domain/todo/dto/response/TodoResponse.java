@@ -15,8 +15,11 @@ public class TodoResponse {
     private final UserResponse user;
     private final LocalDateTime createdAt;
     private final LocalDateTime modifiedAt;
+    private final long commentCount;
+    private final long managerCount;
 
-    public TodoResponse(Long id, String title, String contents, String weather, UserResponse user, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+    public TodoResponse(Long id, String title, String contents, String weather, UserResponse user, LocalDateTime createdAt, LocalDateTime modifiedAt,
+                        long commentCount, long managerCount) {
         this.id = id;
         this.title = title;
         this.contents = contents;
@@ -24,5 +27,13 @@ public class TodoResponse {
         this.user = user;
         this.createdAt = createdAt;
         this.modifiedAt = modifiedAt;
+        this.commentCount = commentCount;
+        this.managerCount = managerCount;
+    }
+
+    // JPQL 생성자 표현식용
+    public TodoResponse(Long id, String title, String contents, String weather, Long userId, String email, LocalDateTime createdAt, LocalDateTime modifiedAt,
+                        Long commentCount, Long managerCount) {
+        this(id, title, contents, weather, new UserResponse(userId, email), createdAt, modifiedAt, commentCount, managerCount);
     }
 }
@@ -0,0 +1,19 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class TodoSliceResponse {
+
+    private final List<TodoResponse> content;
+    private final boolean hasNext;
+    private final String nextCursor;
+
+    public TodoSliceResponse(List<TodoResponse> content, boolean hasNext, String nextCursor) {
+        this.content = content;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+}
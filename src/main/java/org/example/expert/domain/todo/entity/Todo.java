@@ -3,31 +3,59 @@ package org.example.expert.domain.todo.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.example.expert.config.SecondLevelCacheConfig;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.manager.entity.Manager;
 import org.example.expert.domain.user.entity.User;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.SQLRestriction;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "todos")
+@SQLRestriction("deleted_at IS NULL")
+// softDeleteById 같은 벌크 UPDATE/DELETE 가 실행되면 Hibernate 가 todos 영역 전체를 무효화한다
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.TODO_REGION)
+@Table(name = "todos", indexes = {
+        @Index(name = "idx_todos_modified_at_id", columnList = "modifiedAt DESC, id DESC"),
+        @Index(name = "idx_todos_weather_modified_at", columnList = "weather, modifiedAt DESC, id DESC"),
+        @Index(name = "idx_todos_user_id_modified_at", columnList = "user_id, deletedAt, modifiedAt DESC, id DESC")
+})
 public class Todo extends Timestamped {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "todos_id")
+    @TableGenerator(name = "todos_id", table = "id_sequences", pkColumnValue = "todos", allocationSize = 50)
     private Long id;
     private String title;
     private String contents;
     private String weather;
+    // 비동기 삭제 요청 시각. 값이 있으면 조회에서 제외되고 TodoPurger 가 백그라운드에서 실제 행을 삭제한다
+    private LocalDateTime deletedAt;
+
+    // 목록에 함께 내려주는 댓글/담당자 수. TodoRepository 의 원자적 UPDATE 로만 바꾸고, 어긋난 값은 TodoCounterRepairer 가 다시 센다
+    // 엔티티 UPDATE 에 포함되면 다른 트랜잭션이 더한 값을 덮어쓰므로 updatable = false
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private long commentCount;
+
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private long managerCount;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @OneToMany(mappedBy = "todo", cascade = CascadeType.REMOVE)
+    // 댓글은 TodoPurger 가 일괄 삭제하므로 한 건씩 로딩/삭제하는 cascade 를 두지 않는다
+    @OneToMany(mappedBy = "todo")
     private List<Comment> comments = new ArrayList<>();
 
     @OneToMany(mappedBy = "todo", cascade = CascadeType.PERSIST)
@@ -39,6 +67,7 @@ public class Todo extends Timestamped {
         this.weather = weather;
         this.user = user;
         this.managers.add(new Manager(user, this));
+        this.managerCount = this.managers.size();
     }
 
     public void update(String title, String contents) {
@@ -0,0 +1,20 @@
+package org.example.expert.domain.todo.enums;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+import java.util.Arrays;
+
+/**
+ * Todo 목록 조회 시 전체 건수를 계산하는 방식.
+ * EXACT 는 매 요청 COUNT 쿼리, APPROX 는 짧은 TTL 로 캐시된 건수, NONE 은 건수 없이 다음 페이지 여부만 반환한다.
+ */
+public enum TodoCountMode {
+    EXACT, APPROX, NONE;
+
+    public static TodoCountMode of(String mode) {
+        return Arrays.stream(TodoCountMode.values())
+                .filter(m -> m.name().equalsIgnoreCase(mode))
+                .findFirst()
+                .orElseThrow(() -> new InvalidRequestException("유효하지 않은 count 방식입니다."));
+    }
+}
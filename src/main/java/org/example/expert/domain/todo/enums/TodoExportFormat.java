@@ -0,0 +1,85 @@
+package org.example.expert.domain.todo.enums;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * Todo 내보내기 형식. 한 행씩 바로 기록하므로 전체 결과를 메모리에 모으지 않는다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TodoExportFormat {
+
+    NDJSON(MediaType.parseMediaType("application/x-ndjson")) {
+        @Override
+        public void writeHeader(Writer writer) {
+        }
+
+        @Override
+        public void writeRow(Writer writer, TodoResponse todo, ObjectMapper objectMapper) throws IOException {
+            writer.write(objectMapper.writeValueAsString(todo));
+            writer.write('\n');
+        }
+    },
+    CSV(MediaType.parseMediaType("text/csv;charset=UTF-8")) {
+        @Override
+        public void writeHeader(Writer writer) throws IOException {
+            writer.write("id,title,contents,weather,userId,email,createdAt,modifiedAt\n");
+        }
+
+        @Override
+        public void writeRow(Writer writer, TodoResponse todo, ObjectMapper objectMapper) throws IOException {
+            writer.write(String.valueOf(todo.getId()));
+            writer.write(',');
+            writeCsvValue(writer, todo.getTitle());
+            writer.write(',');
+            writeCsvValue(writer, todo.getContents());
+            writer.write(',');
+            writeCsvValue(writer, todo.getWeather());
+            writer.write(',');
+            writer.write(String.valueOf(todo.getUser().getId()));
+            writer.write(',');
+            writeCsvValue(writer, todo.getUser().getEmail());
+            writer.write(',');
+            writeCsvValue(writer, todo.getCreatedAt() == null ? null : todo.getCreatedAt().toString());
+            writer.write(',');
+            writeCsvValue(writer, todo.getModifiedAt() == null ? null : todo.getModifiedAt().toString());
+            writer.write('\n');
+        }
+    };
+
+    private final MediaType mediaType;
+
+    public abstract void writeHeader(Writer writer) throws IOException;
+
+    public abstract void writeRow(Writer writer, TodoResponse todo, ObjectMapper objectMapper) throws IOException;
+
+    public static TodoExportFormat of(String format) {
+        return Arrays.stream(TodoExportFormat.values())
+                .filter(f -> f.name().equalsIgnoreCase(format))
+                .findFirst()
+                .orElseThrow(() -> new InvalidRequestException("유효하지 않은 내보내기 형식입니다."));
+    }
+
+    // RFC 4180: 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고 따옴표는 두 번 쓴다
+    private static void writeCsvValue(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -1,28 +1,109 @@
 package org.example.expert.domain.todo.repository;
 
+import org.example.expert.domain.todo.dto.TodoVersion;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface TodoRepository extends JpaRepository<Todo, Long> {
+public interface TodoRepository extends JpaRepository<Todo, Long>, TodoRepositoryCustom {
 
     @EntityGraph(attributePaths = {"user"})
     @Query("SELECT t FROM Todo t ORDER BY t.modifiedAt DESC")
     Page<Todo> findAllByOrderByModifiedAtDesc(Pageable pageable);
 
+    // 목록 조회용 DTO projection: 엔티티와 User(password 등)를 영속성 컨텍스트에 올리지 않고 필요한 컬럼만 조회
+    // user_id 는 NOT NULL FK 라 LEFT JOIN 이어도 결과가 같고, 옵티마이저가 users 를 먼저 훑는 조인 순서를 고르지 못하게 todos 를 구동 테이블로 고정한다
+    String SELECT_TODO_RESPONSE = "SELECT new org.example.expert.domain.todo.dto.response.TodoResponse(" +
+            "t.id, t.title, t.contents, t.weather, u.id, u.email, t.createdAt, t.modifiedAt, t.commentCount, t.managerCount) " +
+            "FROM Todo t LEFT JOIN t.user u ";
+
+    @Query(value = SELECT_TODO_RESPONSE + "ORDER BY t.modifiedAt DESC, t.id DESC",
+            countQuery = "SELECT COUNT(t) FROM Todo t")
+    Page<TodoResponse> findTodoResponses(Pageable pageable);
+
+    // count 쿼리 없이 size + 1 건을 조회해 다음 페이지 여부만 판단
+    @Query(SELECT_TODO_RESPONSE + "ORDER BY t.modifiedAt DESC, t.id DESC")
+    Slice<TodoResponse> findTodoResponseSlice(Pageable pageable);
+
+    // keyset 페이지네이션: (modifiedAt, id) 복합 인덱스를 역방향으로 읽으며 count 쿼리를 실행하지 않는다
+    @Query(SELECT_TODO_RESPONSE + "ORDER BY t.modifiedAt DESC, t.id DESC")
+    List<TodoResponse> findFirstSlice(Limit limit);
+
+    @Query(SELECT_TODO_RESPONSE +
+            "WHERE t.modifiedAt <= :modifiedAt AND (t.modifiedAt < :modifiedAt OR t.id < :id) " +
+            "ORDER BY t.modifiedAt DESC, t.id DESC")
+    List<TodoResponse> findSliceAfter(@Param("modifiedAt") LocalDateTime modifiedAt, @Param("id") Long id, Limit limit);
+
+    // 검색 색인에서 찾은 id 목록을 PK 로 조회한다. 삭제 표시된 Todo 는 @SQLRestriction 으로 제외된다
+    @Query(SELECT_TODO_RESPONSE + "WHERE t.id IN :ids")
+    List<TodoResponse> findTodoResponsesByIds(@Param("ids") List<Long> ids);
+
+    // 내보내기용: PK 순서로 한 번만 훑으며 fetch size 단위로 읽는다. 읽기 전용이라 dirty checking 스냅샷을 만들지 않는다
+    // MySQL Connector/J 는 useCursorFetch=true 여야 fetch size 단위로 가져온다 (spring.datasource.hikari.data-source-properties, 복제본도 같은 설정)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM Todo t JOIN FETCH t.user ORDER BY t.id")
+    Stream<Todo> streamAllForExport();
+
     @Query("SELECT t FROM Todo t " +
             "LEFT JOIN FETCH t.user " +
             "WHERE t.id = :todoId")
     Optional<Todo> findByIdWithUser(@Param("todoId") Long todoId);
 
+    // ETag 계산용: 엔티티를 올리지 않고 수정일과 카운터만 조회한다
+    @Query("SELECT new org.example.expert.domain.todo.dto.TodoVersion(t.modifiedAt, t.commentCount, t.managerCount) " +
+            "FROM Todo t WHERE t.id = :todoId")
+    Optional<TodoVersion> findVersionById(@Param("todoId") Long todoId);
+
     int countById(Long todoId);
 
+    @Query("SELECT CASE WHEN COUNT(t) > 0 THEN true ELSE false END FROM Todo t WHERE t.id = :todoId AND t.user.id = :userId")
+    boolean existsByIdAndUserId(@Param("todoId") Long todoId, @Param("userId") Long userId);
+
     @Query("SELECT t FROM Todo t JOIN FETCH t.user WHERE t.id = :todoId AND t.user.id = :userId")
     Optional<Todo> findByIdAndUserId(@Param("todoId") Long todoId, @Param("userId") Long userId);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Todo t SET t.deletedAt = :deletedAt WHERE t.id = :todoId")
+    int softDeleteById(@Param("todoId") Long todoId, @Param("deletedAt") LocalDateTime deletedAt);
+
+    // 삭제 표시된 Todo 는 @SQLRestriction 으로 JPQL 조회에서 제외되므로 native query 로 조회/삭제한다 (삭제는 TodoRepositoryCustom)
+    @Query(value = "SELECT id FROM todos WHERE deleted_at IS NOT NULL ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<Long> findSoftDeletedIds(@Param("limit") int limit);
+
+    // 카운터 보정용: PK 순서로 id 만 잘라 읽는다
+    @Query(value = "SELECT id FROM todos WHERE id > :afterId ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, @Param("limit") int limit);
+
+    // ids 중 카운터가 실제 댓글/담당자 수와 다른 Todo 만 다시 센 값으로 바꾸고, 바뀐 행 수를 반환한다
+    // 벌크 UPDATE 라 todos 2차 캐시 영역 전체가 무효화되므로 보정 작업에서만 사용한다
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Todo t SET " +
+            "t.commentCount = (SELECT COUNT(c) FROM Comment c WHERE c.todo.id = t.id), " +
+            "t.managerCount = (SELECT COUNT(m) FROM Manager m WHERE m.todo.id = t.id) " +
+            "WHERE t.id IN :ids AND (" +
+            "t.commentCount <> (SELECT COUNT(c) FROM Comment c WHERE c.todo.id = t.id) OR " +
+            "t.managerCount <> (SELECT COUNT(m) FROM Manager m WHERE m.todo.id = t.id))")
+    int recountByIdIn(@Param("ids") List<Long> ids);
 }
@@ -0,0 +1,22 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.domain.todo.dto.request.TodoFilter;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+public interface TodoRepositoryCustom {
+
+    Page<TodoResponse> findTodoResponses(TodoFilter filter, Pageable pageable);
+
+    Slice<TodoResponse> findTodoResponseSlice(TodoFilter filter, Pageable pageable);
+
+    // 댓글/담당자 수에 delta 를 DB 에서 원자적으로 더한다. 삭제 표시된 Todo 는 바꾸지 않으며 바뀐 행 수를 반환한다
+    int addCommentCount(Long todoId, long delta);
+
+    int addManagerCount(Long todoId, long delta);
+
+    // 삭제 표시 여부와 관계없이 Todo 행을 삭제한다. 2차 캐시는 todos 영역과 이를 참조하는 조회 캐시만 무효화한다
+    int hardDeleteById(Long todoId);
+}
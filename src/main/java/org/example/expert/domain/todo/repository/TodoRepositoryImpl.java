@@ -0,0 +1,153 @@
+package org.example.expert.domain.todo.repository;
+
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.dto.request.TodoFilter;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.hibernate.query.NativeQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 조건이 있는 경우만 WHERE 절에 넣어 Todo 목록 JPQL 을 만든다.
+ * 조건 조합별로 아래 인덱스를 범위 스캔하며, 모두 (modifiedAt, id) 역순으로 읽어 정렬을 따로 하지 않는다.
+ * - 조건 없음, from/to: idx_todos_modified_at_id
+ * - weather (+ from/to): idx_todos_weather_modified_at
+ * - userId (+ weather, from/to): idx_todos_user_id_modified_at
+ * userId 인덱스는 @SQLRestriction 의 deleted_at IS NULL 까지 키 앞쪽에 두어, FK 용 단일 컬럼 인덱스보다 좁은 범위를 읽는다.
+ *
+ * 댓글/담당자 카운터는 read-modify-write 없이 "count = count + delta" UPDATE 로 바꾼다.
+ * JPQL 벌크 UPDATE 는 todos 2차 캐시 영역 전체를 무효화하므로 native query 에 별도 query space 를 지정하고 커밋 후 해당 Todo 만 캐시에서 제거한다.
+ * query space 가 없는 native DML 은 모든 2차 캐시 영역과 조회 캐시를 비우므로, 행 삭제도 Todo 엔티티로 동기화 범위를 좁힌다.
+ */
+@RequiredArgsConstructor
+public class TodoRepositoryImpl implements TodoRepositoryCustom {
+
+    private static final String ORDER_BY = "ORDER BY t.modifiedAt DESC, t.id DESC";
+    private static final String COUNTER_QUERY_SPACE = "todo_counters";
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Page<TodoResponse> findTodoResponses(TodoFilter filter, Pageable pageable) {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        String where = where(filter, parameters);
+
+        List<TodoResponse> content = select(where, parameters, pageable, pageable.getPageSize());
+
+        TypedQuery<Long> count = entityManager.createQuery("SELECT COUNT(t) FROM Todo t " + where, Long.class);
+        parameters.forEach(count::setParameter);
+
+        return new PageImpl<>(content, pageable, count.getSingleResult());
+    }
+
+    @Override
+    public Slice<TodoResponse> findTodoResponseSlice(TodoFilter filter, Pageable pageable) {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        String where = where(filter, parameters);
+
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회
+        List<TodoResponse> content = select(where, parameters, pageable, pageable.getPageSize() + 1);
+
+        boolean hasNext = content.size() > pageable.getPageSize();
+        if (hasNext) {
+            content = content.subList(0, pageable.getPageSize());
+        }
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    @Override
+    public int addCommentCount(Long todoId, long delta) {
+        return addCount("comment_count", todoId, delta);
+    }
+
+    @Override
+    public int addManagerCount(Long todoId, long delta) {
+        return addCount("manager_count", todoId, delta);
+    }
+
+    @Override
+    @Transactional
+    public int hardDeleteById(Long todoId) {
+        return entityManager.createNativeQuery("DELETE FROM todos WHERE id = :todoId")
+                .setParameter("todoId", todoId)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(Todo.class)
+                .executeUpdate();
+    }
+
+    private int addCount(String column, Long todoId, long delta) {
+        int updated = entityManager.createNativeQuery(
+                        "UPDATE todos SET " + column + " = " + column + " + :delta WHERE id = :todoId AND deleted_at IS NULL")
+                .setParameter("delta", delta)
+                .setParameter("todoId", todoId)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace(COUNTER_QUERY_SPACE)
+                .executeUpdate();
+        evictAfterCommit(todoId);
+        return updated;
+    }
+
+    // 커밋 전에 제거하면 그 사이 다른 트랜잭션이 커밋 전 값을 다시 캐시에 올릴 수 있으므로 커밋 후에 제거한다
+    private void evictAfterCommit(Long todoId) {
+        Cache cache = entityManager.getEntityManagerFactory().getCache();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.evict(Todo.class, todoId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.evict(Todo.class, todoId);
+            }
+        });
+    }
+
+    private List<TodoResponse> select(String where, Map<String, Object> parameters, Pageable pageable, int limit) {
+        TypedQuery<TodoResponse> query = entityManager.createQuery(
+                TodoRepository.SELECT_TODO_RESPONSE + where + ORDER_BY, TodoResponse.class);
+        parameters.forEach(query::setParameter);
+
+        return query.setFirstResult((int) pageable.getOffset())
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private String where(TodoFilter filter, Map<String, Object> parameters) {
+        StringBuilder where = new StringBuilder();
+        if (filter.userId() != null) {
+            and(where, "t.user.id = :userId");
+            parameters.put("userId", filter.userId());
+        }
+        if (filter.weather() != null) {
+            and(where, "t.weather = :weather");
+            parameters.put("weather", filter.weather());
+        }
+        if (filter.from() != null) {
+            and(where, "t.modifiedAt >= :from");
+            parameters.put("from", filter.from());
+        }
+        if (filter.to() != null) {
+            and(where, "t.modifiedAt < :to");
+            parameters.put("to", filter.to());
+        }
+        return where.toString();
+    }
+
+    private void and(StringBuilder where, String condition) {
+        where.append(where.isEmpty() ? "WHERE " : "AND ").append(condition).append(' ');
+    }
+}
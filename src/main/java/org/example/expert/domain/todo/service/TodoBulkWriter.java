@@ -0,0 +1,45 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.entity.Todo;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 여러 Todo 를 하나의 트랜잭션에서 저장한다.
+ * hibernate.jdbc.batch_size 만큼 persist 한 뒤 flush/clear 하여 Todo 와 Manager insert 를 JDBC 배치로 보내고,
+ * 영속성 컨텍스트가 요청 크기만큼 커지지 않게 한다.
+ * 한 번에 들어온 Todo 들이 2차 캐시의 todos 영역을 밀어내지 않도록 저장한 엔티티는 캐시에 넣지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TodoBulkWriter {
+
+    // application.yml 의 hibernate.jdbc.batch_size 와 맞춘 값
+    static final int CHUNK_SIZE = 50;
+
+    private final EntityManager entityManager;
+
+    @Transactional
+    public List<Long> insert(List<Todo> todos) {
+        entityManager.unwrap(Session.class).setCacheMode(CacheMode.GET);
+
+        List<Long> ids = new ArrayList<>(todos.size());
+        for (Todo todo : todos) {
+            entityManager.persist(todo);
+            ids.add(todo.getId());
+
+            if (ids.size() % CHUNK_SIZE == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,70 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Todo 전체 건수를 짧은 TTL 동안 캐싱한다.
+ * TTL 이 지나면 한 요청만 COUNT 쿼리를 실행하고, 그동안 다른 요청은 이전 값을 그대로 사용한다.
+ */
+@Component
+public class TodoCountCache {
+
+    private final TodoRepository todoRepository;
+    private final Duration ttl;
+    private final Clock clock;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile CachedCount cached;
+
+    @Autowired
+    public TodoCountCache(TodoRepository todoRepository, @Value("${todo.count-cache.ttl:5s}") Duration ttl) {
+        this(todoRepository, ttl, Clock.systemUTC());
+    }
+
+    TodoCountCache(TodoRepository todoRepository, Duration ttl, Clock clock) {
+        this.todoRepository = todoRepository;
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    public long getCount() {
+        CachedCount current = cached;
+        if (current != null && !current.isExpired(clock.millis(), ttl)) {
+            return current.count();
+        }
+
+        // 이미 다른 요청이 갱신 중이면 만료된 값이라도 반환
+        if (current != null && !refreshLock.tryLock()) {
+            return current.count();
+        }
+        if (current == null) {
+            refreshLock.lock();
+        }
+
+        try {
+            CachedCount latest = cached;
+            if (latest != null && !latest.isExpired(clock.millis(), ttl)) {
+                return latest.count();
+            }
+            long count = todoRepository.count();
+            cached = new CachedCount(count, clock.millis());
+            return count;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private record CachedCount(long count, long loadedAt) {
+
+        boolean isExpired(long now, Duration ttl) {
+            return now - loadedAt >= ttl.toMillis();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 실제 댓글/담당자 수와 어긋난 Todo 카운터를 다시 센다.
+ * SQL 로 직접 넣거나 지운 행처럼 서비스를 거치지 않은 변경은 카운터에 반영되지 않으므로 주기적으로 보정한다.
+ * PK 순서로 BATCH_SIZE 건씩 나눠 배치마다 UPDATE 한 번(별도 트랜잭션)으로 처리해 긴 잠금 없이 전체 테이블을 훑는다.
+ * 카운터 컬럼이 생기기 전부터 있던 Todo 는 0 으로 시작하므로, 한 번만 todo.counter-repair.on-startup 을 켜서 기동 시 백그라운드로 보정한다.
+ * 전체 테이블을 훑고 배치마다 todos 2차 캐시 영역을 비우므로 기본값은 꺼져 있다.
+ */
+@Slf4j
+@Component
+public class TodoCounterRepairer {
+
+    static final int BATCH_SIZE = 500;
+
+    private final TodoRepository todoRepository;
+    private final boolean repairOnStartup;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "todo-counter-repair");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public TodoCounterRepairer(
+            TodoRepository todoRepository,
+            @Value("${todo.counter-repair.on-startup:false}") boolean repairOnStartup
+    ) {
+        this.todoRepository = todoRepository;
+        this.repairOnStartup = repairOnStartup;
+    }
+
+    // 기동 완료 이벤트 스레드를 붙잡지 않도록 별도 스레드에서 보정한다
+    @EventListener(ApplicationReadyEvent.class)
+    public void repairOnStartup() {
+        if (!repairOnStartup) {
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                repair();
+            } catch (RuntimeException e) {
+                // 보정은 다음 정기 실행에서 이어서 하면 된다
+                log.warn("기동 시 Todo 카운터 보정 실패", e);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // 보정한 Todo 수를 반환한다
+    @Scheduled(cron = "${todo.counter-repair.cron:0 30 4 * * *}")
+    public int repair() {
+        long afterId = 0;
+        int repaired = 0;
+        List<Long> ids;
+        do {
+            ids = todoRepository.findIdsAfter(afterId, BATCH_SIZE);
+            if (!ids.isEmpty()) {
+                repaired += todoRepository.recountByIdIn(ids);
+                afterId = ids.get(ids.size() - 1);
+            }
+        } while (ids.size() == BATCH_SIZE);
+
+        if (repaired > 0) {
+            log.info("Todo 카운터 보정: repaired={}", repaired);
+        }
+        return repaired;
+    }
+}
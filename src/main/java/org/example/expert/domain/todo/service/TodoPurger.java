@@ -0,0 +1,56 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Todo 와 그에 딸린 댓글/담당자를 엔티티 로딩 없이 집합 단위 DELETE 로 삭제한다.
+ * 댓글은 CHUNK_SIZE 건씩 별도 트랜잭션으로 삭제해 댓글이 많은 Todo 도 긴 트랜잭션과 큰 undo 로그 없이 지울 수 있다.
+ * 호출 전에 삭제 표시가 되어 있으므로 중간에 실패해도 남은 행은 purgeSoftDeleted 가 이어서 삭제한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TodoPurger {
+
+    static final int CHUNK_SIZE = 1000;
+    // 한 번의 백그라운드 실행에서 정리할 삭제 표시된 Todo 수
+    private static final int PURGE_BATCH = 100;
+
+    private final TodoRepository todoRepository;
+    private final CommentRepository commentRepository;
+    private final ManagerRepository managerRepository;
+
+    public void purge(long todoId) {
+        List<Long> commentIds;
+        do {
+            commentIds = commentRepository.findIdsByTodoId(todoId, Limit.of(CHUNK_SIZE));
+            if (!commentIds.isEmpty()) {
+                commentRepository.deleteAllByIdInBatch(commentIds);
+            }
+        } while (commentIds.size() == CHUNK_SIZE);
+
+        managerRepository.deleteAllByTodoId(todoId);
+        todoRepository.hardDeleteById(todoId);
+    }
+
+    // 비동기 삭제 요청으로 삭제 표시만 된 Todo 의 행을 백그라운드에서 정리한다
+    @Scheduled(fixedDelayString = "${todo.purge.interval:PT10S}")
+    public void purgeSoftDeleted() {
+        for (Long todoId : todoRepository.findSoftDeletedIds(PURGE_BATCH)) {
+            try {
+                purge(todoId);
+            } catch (RuntimeException e) {
+                log.warn("Todo 삭제 정리 실패: todoId={}", todoId, e);
+            }
+        }
+    }
+}
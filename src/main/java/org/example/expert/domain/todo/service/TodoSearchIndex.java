@@ -0,0 +1,337 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Todo 제목/내용에 대한 Lucene 역색인.
+ * 검색 결과는 Todo id 만 반환하고 실제 데이터는 DB 에서 PK 로 다시 조회하므로,
+ * 색인이 잠시 DB 와 어긋나도 삭제된 Todo 가 노출되지는 않는다.
+ * todo.search.index-dir 이 비어 있으면 메모리에만 색인한다.
+ */
+@Slf4j
+@Component
+public class TodoSearchIndex {
+
+    private static final String ID = "id";
+    private static final String TITLE = "title";
+    private static final String CONTENTS = "contents";
+    private static final float TITLE_BOOST = 2.0f;
+    private static final int MAX_TERMS = 16;
+
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final Directory directory;
+    private volatile IndexWriter writer;
+    private volatile SearcherManager searcherManager;
+
+    // 재구성 중에는 저장/삭제를 재구성용 색인에도 반영하고, 교체는 write lock 으로 저장/삭제/commit 과 겹치지 않게 한다
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private IndexWriter buildWriter;
+    private final Lock rebuildLock = new ReentrantLock();
+
+    @Autowired
+    public TodoSearchIndex(@Value("${todo.search.index-dir:}") String indexDir) throws IOException {
+        this(StringUtils.hasText(indexDir) ? FSDirectory.open(Path.of(indexDir)) : new ByteBuffersDirectory());
+    }
+
+    TodoSearchIndex(Directory directory) throws IOException {
+        this.directory = directory;
+        open();
+    }
+
+    // 색인 실패는 Todo 저장/삭제를 실패시키지 않는다. 누락분은 재구성으로 복구한다
+    public void index(Todo todo) {
+        try {
+            write(todo.getId(), todo.getTitle(), todo.getContents());
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            log.warn("Todo 색인 실패: todoId={}", todo.getId(), e);
+        }
+    }
+
+    public void indexAll(Collection<Todo> todos) {
+        try {
+            for (Todo todo : todos) {
+                write(todo.getId(), todo.getTitle(), todo.getContents());
+            }
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            log.warn("Todo 일괄 색인 실패: count={}", todos.size(), e);
+        }
+    }
+
+    public void delete(long todoId) {
+        swapLock.readLock().lock();
+        try {
+            writer.deleteDocuments(idTerm(todoId));
+            if (buildWriter != null) {
+                buildWriter.deleteDocuments(idTerm(todoId));
+            }
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            log.warn("Todo 색인 삭제 실패: todoId={}", todoId, e);
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * source 가 넘겨주는 Todo 로 별도 색인을 만든 뒤, 성공하면 한 번에 기존 색인과 교체하고 commit 한다.
+     * 재구성 중에도 검색과 디스크에는 기존 색인이 그대로 남고, 그 사이의 저장/삭제는 양쪽 색인에 모두 반영된다.
+     * 도중에 실패하면 만들던 색인만 버리므로 기존 색인은 바뀌지 않는다.
+     */
+    public void rebuild(Consumer<Consumer<TodoResponse>> source) throws IOException {
+        rebuildLock.lock();
+        try {
+            Directory buildDirectory = newBuildDirectory();
+            try {
+                IndexWriter building = new IndexWriter(buildDirectory, new IndexWriterConfig(analyzer));
+                setBuildWriter(building);
+                try {
+                    source.accept(todo -> {
+                        try {
+                            building.updateDocument(idTerm(todo.getId()), document(todo.getId(), todo.getTitle(), todo.getContents()));
+                        } catch (IOException e) {
+                            throw new ServerException("검색 색인 재구성에 실패했습니다.", e);
+                        }
+                    });
+                } catch (RuntimeException e) {
+                    setBuildWriter(null);
+                    building.rollback();
+                    throw e;
+                }
+                swap(building, buildDirectory);
+            } finally {
+                discard(buildDirectory);
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+        searcherManager.maybeRefreshBlocking();
+    }
+
+    /**
+     * 공백으로 구분된 검색어를 모두 포함하는 Todo id 를 관련도 순으로 반환한다.
+     * 끝이 * 인 검색어는 접두사로 검색한다. (예: "spr*" 는 spring, sprint 와 일치)
+     */
+    public List<Long> search(String text, int limit) {
+        Query query = parse(text);
+        if (query == null) {
+            return List.of();
+        }
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                StoredFields storedFields = searcher.storedFields();
+                List<Long> ids = new ArrayList<>(limit);
+                for (ScoreDoc scoreDoc : searcher.search(query, limit).scoreDocs) {
+                    ids.add(Long.parseLong(storedFields.document(scoreDoc.doc, Set.of(ID)).get(ID)));
+                }
+                return ids;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new ServerException("검색에 실패했습니다.");
+        }
+    }
+
+    public int size() {
+        return writer.getDocStats().numDocs;
+    }
+
+    // NRT 검색은 commit 없이도 반영되므로, 디스크 commit(fsync)은 주기적으로만 한다
+    // 재구성한 색인으로 교체하는 도중의 상태는 commit 하지 않는다
+    @Scheduled(fixedDelayString = "${todo.search.commit-interval:PT30S}")
+    public void commit() throws IOException {
+        swapLock.readLock().lock();
+        try {
+            if (writer.hasUncommittedChanges()) {
+                writer.commit();
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    private void open() throws IOException {
+        writer = new IndexWriter(directory, new IndexWriterConfig(analyzer));
+        searcherManager = new SearcherManager(writer, null);
+    }
+
+    private void write(Long id, String title, String contents) throws IOException {
+        Document document = document(id, title, contents);
+        swapLock.readLock().lock();
+        try {
+            writer.updateDocument(idTerm(id), document);
+            if (buildWriter != null) {
+                buildWriter.updateDocument(idTerm(id), document);
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    private void setBuildWriter(IndexWriter building) {
+        swapLock.writeLock().lock();
+        try {
+            buildWriter = building;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+    }
+
+    // 재구성용 색인에 반영을 멈추는 것과 교체를 같은 write lock 안에서 해 그 사이의 저장/삭제가 빠지지 않게 한다
+    private void swap(IndexWriter building, Directory buildDirectory) throws IOException {
+        swapLock.writeLock().lock();
+        try {
+            buildWriter = null;
+            building.close();
+            // 교체 직전까지의 변경을 commit 해 두고, 교체 중 실패하면 그 commit 으로 되돌린다
+            writer.commit();
+            try {
+                writer.deleteAll();
+                writer.addIndexes(buildDirectory);
+                writer.commit();
+            } catch (IOException | RuntimeException e) {
+                SearcherManager previous = searcherManager;
+                writer.rollback();
+                previous.close();
+                open();
+                throw e;
+            }
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+    }
+
+    // 파일 색인이면 같은 상위 디렉터리의 임시 디렉터리에, 메모리 색인이면 메모리에 재구성한다
+    private Directory newBuildDirectory() throws IOException {
+        if (directory instanceof FSDirectory fsDirectory) {
+            Path parent = fsDirectory.getDirectory().toAbsolutePath().getParent();
+            return FSDirectory.open(Files.createTempDirectory(parent, "todo-search-rebuild"));
+        }
+        return new ByteBuffersDirectory();
+    }
+
+    private void discard(Directory buildDirectory) {
+        Path path = buildDirectory instanceof FSDirectory fsDirectory ? fsDirectory.getDirectory() : null;
+        try {
+            buildDirectory.close();
+            if (path != null) {
+                FileSystemUtils.deleteRecursively(path);
+            }
+        } catch (IOException e) {
+            log.warn("재구성용 임시 검색 색인 정리 실패", e);
+        }
+    }
+
+    private Term idTerm(long id) {
+        return new Term(ID, Long.toString(id));
+    }
+
+    private Document document(Long id, String title, String contents) {
+        Document document = new Document();
+        document.add(new StringField(ID, id.toString(), Field.Store.YES));
+        document.add(new TextField(TITLE, nullToEmpty(title), Field.Store.NO));
+        document.add(new TextField(CONTENTS, nullToEmpty(contents), Field.Store.NO));
+        return document;
+    }
+
+    private Query parse(String text) {
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        int clauses = 0;
+
+        for (String token : text.trim().split("\\s+")) {
+            boolean prefix = token.endsWith("*");
+            List<String> terms = analyze(prefix ? token.substring(0, token.length() - 1) : token);
+
+            for (int i = 0; i < terms.size() && clauses < MAX_TERMS; i++, clauses++) {
+                // 접두사 검색어가 여러 토큰으로 나뉘면 마지막 토큰에만 접두사 검색을 적용
+                boolean prefixTerm = prefix && i == terms.size() - 1;
+                query.add(new BooleanQuery.Builder()
+                        .add(new BoostQuery(termQuery(TITLE, terms.get(i), prefixTerm), TITLE_BOOST), BooleanClause.Occur.SHOULD)
+                        .add(termQuery(CONTENTS, terms.get(i), prefixTerm), BooleanClause.Occur.SHOULD)
+                        .build(), BooleanClause.Occur.MUST);
+            }
+        }
+        return clauses == 0 ? null : query.build();
+    }
+
+    private Query termQuery(String field, String term, boolean prefix) {
+        return prefix ? new PrefixQuery(new Term(field, term)) : new TermQuery(new Term(field, term));
+    }
+
+    private List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        try (TokenStream stream = analyzer.tokenStream(CONTENTS, text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                terms.add(term.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new ServerException("검색어 분석에 실패했습니다.");
+        }
+        return terms;
+    }
+
+    private String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
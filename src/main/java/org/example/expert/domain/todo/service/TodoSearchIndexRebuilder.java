@@ -0,0 +1,65 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * todos 테이블 전체를 스트리밍으로 읽어 검색 색인을 다시 만든다.
+ * 색인이 비어 있는 상태로 시작하면 자동으로 실행되고, 관리자가 직접 실행할 수도 있다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TodoSearchIndexRebuilder {
+
+    private final TodoService todoService;
+    private final TodoSearchIndex todoSearchIndex;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "todo-search-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        if (todoSearchIndex.size() == 0) {
+            rebuildAsync();
+        }
+    }
+
+    public void rebuildAsync() {
+        if (!running.compareAndSet(false, true)) {
+            throw new InvalidRequestException("이미 검색 색인을 재구성하고 있습니다.");
+        }
+
+        executor.execute(() -> {
+            try {
+                long startedAt = System.currentTimeMillis();
+                todoSearchIndex.rebuild(todoService::exportTodos);
+                log.info("검색 색인 재구성 완료: documents={}, elapsed={}ms",
+                        todoSearchIndex.size(), System.currentTimeMillis() - startedAt);
+            } catch (IOException | RuntimeException e) {
+                log.error("검색 색인 재구성 실패", e);
+            } finally {
+                running.set(false);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -1,34 +1,83 @@
 package org.example.expert.domain.todo.service;
 
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
-import org.example.expert.client.WeatherClient;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.client.WeatherCache;
+import org.example.expert.config.IoExecutors;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.KeysetCursor;
+import org.example.expert.domain.common.dto.ResourceVersion;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.request.TodoBulkSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoFilter;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBulkSaveItemResponse;
+import org.example.expert.domain.todo.dto.response.TodoBulkSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoPageResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoSliceResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.TodoCountMode;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class TodoService {
 
+    // 내보내기 중 영속성 컨텍스트에 쌓인 Todo/User 를 비우는 간격
+    private static final int EXPORT_CLEAR_INTERVAL = 1000;
+    private static final int MAX_SEARCH_SIZE = 100;
+
     private final TodoRepository todoRepository;
-    private final WeatherClient weatherClient;
+    private final WeatherCache weatherCache;
+    private final TodoCountCache todoCountCache;
+    private final EntityManager entityManager;
+    private final TodoBulkWriter todoBulkWriter;
+    private final TodoPurger todoPurger;
+    private final TodoSearchIndex todoSearchIndex;
+    private final IoExecutors ioExecutors;
 
-    @Transactional
+    // 날씨 조회 동안 DB 커넥션을 점유하지 않도록 트랜잭션은 todoRepository.save 의 insert 에만 적용
     public TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
-        User user = User.fromAuthUser(authUser);
+        return saveTodo(authUser, todoSaveRequest, weatherCache.getTodayWeather());
+    }
 
-        String weather = weatherClient.getTodayWeather();
+    // 날씨 조회는 weather 풀, insert 는 db 풀에서 실행해 요청 스레드를 바로 반환한다
+    public CompletableFuture<TodoSaveResponse> saveTodoAsync(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
+        // 시간 제한은 날씨 조회에만 둔다. 저장 단계까지 제한하면 503 으로 응답한 뒤에도 INSERT 가 끝까지 실행되어
+        // 클라이언트가 재시도할 때 같은 Todo 가 중복 저장된다
+        return ioExecutors.supplyWeather(weatherCache::getTodayWeather)
+                .thenApplyAsync(weather -> saveTodo(authUser, todoSaveRequest, weather), ioExecutors.db());
+    }
+
+    private TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest, String weather) {
+        User user = User.fromAuthUser(authUser);
 
         Todo newTodo = new Todo(
                 todoSaveRequest.getTitle(),
@@ -37,6 +86,7 @@ public class TodoService {
                 user
         );
         Todo savedTodo = todoRepository.save(newTodo);
+        todoSearchIndex.index(savedTodo);
 
         return new TodoSaveResponse(
                 savedTodo.getId(),
@@ -47,21 +97,135 @@ public class TodoService {
         );
     }
 
+    // 날씨는 요청 전체에 대해 한 번만 조회하고, 유효한 항목만 하나의 트랜잭션에서 배치로 저장한다
+    public TodoBulkSaveResponse saveTodos(AuthUser authUser, TodoBulkSaveRequest todoBulkSaveRequest) {
+        User user = User.fromAuthUser(authUser);
+        List<TodoSaveRequest> requests = todoBulkSaveRequest.getTodos();
+
+        List<TodoBulkSaveItemResponse> results = new ArrayList<>(Collections.nCopies(requests.size(), null));
+        List<Integer> validIndexes = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            TodoSaveRequest request = requests.get(i);
+            if (request == null || !StringUtils.hasText(request.getTitle()) || !StringUtils.hasText(request.getContents())) {
+                results.set(i, TodoBulkSaveItemResponse.failed(i, "제목과 내용은 필수입니다."));
+            } else {
+                validIndexes.add(i);
+            }
+        }
+
+        String weather = validIndexes.isEmpty() ? null : weatherCache.getTodayWeather();
+
+        List<Todo> newTodos = new ArrayList<>(validIndexes.size());
+        for (int index : validIndexes) {
+            TodoSaveRequest request = requests.get(index);
+            newTodos.add(new Todo(request.getTitle(), request.getContents(), weather, user));
+        }
+        List<Long> ids = newTodos.isEmpty() ? List.of() : todoBulkWriter.insert(newTodos);
+        todoSearchIndex.indexAll(newTodos);
+
+        for (int i = 0; i < validIndexes.size(); i++) {
+            int index = validIndexes.get(i);
+            results.set(index, TodoBulkSaveItemResponse.saved(index, ids.get(i)));
+        }
+
+        return new TodoBulkSaveResponse(weather, ids.size(), requests.size() - ids.size(), results);
+    }
+
     @Transactional(readOnly = true)
     public Page<TodoResponse> getTodos(int page, int size) {
         Pageable pageable = PageRequest.of(page - 1, size);
 
-        Page<Todo> todos = todoRepository.findAllByOrderByModifiedAtDesc(pageable);
+        return todoRepository.findTodoResponses(pageable);
+    }
 
-        return todos.map(todo -> new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
-        ));
+    @Transactional(readOnly = true)
+    public TodoPageResponse getTodos(int page, int size, TodoCountMode countMode) {
+        return getTodos(page, size, countMode, TodoFilter.NONE);
+    }
+
+    // EXACT 는 기존 Page 응답과 같은 형태로, APPROX/NONE 은 hasNext 를 덧붙이고 NONE 이면 전체 건수를 비워 둔다
+    @Transactional(readOnly = true)
+    public TodoPageResponse getTodos(int page, int size, TodoCountMode countMode, TodoFilter filter) {
+        Pageable pageable = PageRequest.of(page - 1, size);
+
+        if (!filter.isEmpty()) {
+            // 캐시된 건수는 전체 Todo 기준이므로 조건이 있으면 APPROX 도 인덱스 범위에 대한 COUNT 로 계산
+            if (countMode == TodoCountMode.NONE) {
+                return TodoPageResponse.withoutCount(todoRepository.findTodoResponseSlice(filter, pageable));
+            }
+            Page<TodoResponse> todos = todoRepository.findTodoResponses(filter, pageable);
+            return countMode == TodoCountMode.EXACT
+                    ? TodoPageResponse.exact(todos)
+                    : TodoPageResponse.approximate(todos, todos.getTotalElements());
+        }
+
+        if (countMode == TodoCountMode.EXACT) {
+            return TodoPageResponse.exact(getTodos(page, size));
+        }
+
+        Slice<TodoResponse> todos = todoRepository.findTodoResponseSlice(pageable);
+
+        if (countMode == TodoCountMode.NONE) {
+            return TodoPageResponse.withoutCount(todos);
+        }
+        // 캐시된 건수는 실제와 다를 수 있으므로 최소한 조회 결과와 다음 페이지 여부와는 어긋나지 않게 보정
+        long minimum = pageable.getOffset() + todos.getNumberOfElements() + (todos.hasNext() ? 1 : 0);
+        return TodoPageResponse.approximate(todos, Math.max(todoCountCache.getCount(), minimum));
+    }
+
+    @Transactional(readOnly = true)
+    public TodoSliceResponse getTodosByCursor(String cursor, int size) {
+        if (size < 1) {
+            throw new InvalidRequestException("size 는 1 이상이어야 합니다.");
+        }
+
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회
+        Limit limit = Limit.of(size + 1);
+
+        List<TodoResponse> todos;
+        if (StringUtils.hasText(cursor)) {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            todos = todoRepository.findSliceAfter(after.time(), after.id(), limit);
+        } else {
+            todos = todoRepository.findFirstSlice(limit);
+        }
+
+        boolean hasNext = todos.size() > size;
+        if (hasNext) {
+            todos = todos.subList(0, size);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            TodoResponse last = todos.get(todos.size() - 1);
+            nextCursor = new KeysetCursor(last.getModifiedAt(), last.getId()).encode();
+        }
+
+        return new TodoSliceResponse(todos, hasNext, nextCursor);
+    }
+
+    // 색인에서 찾은 id 로 DB 를 PK 조회하고 색인의 관련도 순서를 유지한다. 색인 검색 중에는 커넥션을 잡지 않는다
+    public List<TodoResponse> searchTodos(String query, int size) {
+        if (!StringUtils.hasText(query)) {
+            throw new InvalidRequestException("검색어를 입력해주세요.");
+        }
+        if (size < 1 || size > MAX_SEARCH_SIZE) {
+            throw new InvalidRequestException("size 는 1 이상 " + MAX_SEARCH_SIZE + " 이하여야 합니다.");
+        }
+
+        List<Long> ids = todoSearchIndex.search(query, size);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, TodoResponse> todos = new HashMap<>();
+        for (TodoResponse todo : todoRepository.findTodoResponsesByIds(ids)) {
+            todos.put(todo.getId(), todo);
+        }
+        return ids.stream()
+                .map(todos::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
     @Transactional(readOnly = true)
@@ -78,7 +242,63 @@ public class TodoService {
                 todo.getWeather(),
                 new UserResponse(user.getId(), user.getEmail()),
                 todo.getCreatedAt(),
-                todo.getModifiedAt()
+                todo.getModifiedAt(),
+                todo.getCommentCount(),
+                todo.getManagerCount()
         );
     }
+
+    // If-None-Match 비교용 버전. 삭제되었거나 없는 Todo 는 빈 값을 반환해 getTodo 에서 예외가 나도록 한다
+    @Transactional(readOnly = true)
+    public Optional<ResourceVersion> getTodoVersion(long todoId) {
+        return todoRepository.findVersionById(todoId)
+                .map(version -> ResourceVersion.of("todo", version.modifiedAt(), version.commentCount(), version.managerCount()));
+    }
+
+    // 전체 Todo 를 한 건씩 consumer 에 넘기며, consumer 가 끝날 때까지 트랜잭션과 결과 커서를 유지한다
+    // 읽기 전용이라 복제본에서 실행되며, 커서 단위 조회는 복제본 풀에도 복사되는 useCursorFetch 설정에 기댄다 (DataSourceConfig)
+    @Transactional(readOnly = true)
+    public void exportTodos(Consumer<TodoResponse> consumer) {
+        try (Stream<Todo> todos = todoRepository.streamAllForExport()) {
+            Iterator<Todo> iterator = todos.iterator();
+            int exported = 0;
+            while (iterator.hasNext()) {
+                Todo todo = iterator.next();
+                User user = todo.getUser();
+                consumer.accept(new TodoResponse(
+                        todo.getId(),
+                        todo.getTitle(),
+                        todo.getContents(),
+                        todo.getWeather(),
+                        new UserResponse(user.getId(), user.getEmail()),
+                        todo.getCreatedAt(),
+                        todo.getModifiedAt(),
+                        todo.getCommentCount(),
+                        todo.getManagerCount()
+                ));
+
+                if (++exported % EXPORT_CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+    }
+
+    // 먼저 삭제 표시를 해 조회와 댓글/담당자 등록에서 제외하고, async 가 아니면 실제 행까지 바로 삭제한다
+    // 삭제 중 실패하거나 그사이 댓글이 추가돼 Todo 삭제가 외래 키에 막혀도 TodoPurger 의 백그라운드 정리가 이어서 삭제한다
+    public void deleteTodo(AuthUser authUser, long todoId, boolean async) {
+        todoRepository.findByIdAndUserId(todoId, authUser.getId())
+                .orElseThrow(() -> new InvalidRequestException("해당 일정을 만든 유저가 유효하지 않습니다."));
+
+        todoRepository.softDeleteById(todoId, LocalDateTime.now());
+        todoSearchIndex.delete(todoId);
+
+        if (!async) {
+            try {
+                todoPurger.purge(todoId);
+            } catch (RuntimeException e) {
+                log.warn("Todo 즉시 삭제 실패, 백그라운드 정리로 넘김: todoId={}", todoId, e);
+            }
+        }
+    }
 }
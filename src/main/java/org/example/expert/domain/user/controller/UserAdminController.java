@@ -1,10 +1,17 @@
 package org.example.expert.domain.user.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
 import org.example.expert.config.aop.AdminLog;
+import org.example.expert.domain.common.annotation.Auth;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.dto.request.UserRoleBulkChangeRequest;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.example.expert.domain.user.dto.response.UserRoleBulkChangeResponse;
 import org.example.expert.domain.user.service.UserAdminService;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -21,4 +28,14 @@ public class UserAdminController {
     public void changeUserRole(@PathVariable long userId, @RequestBody UserRoleChangeRequest userRoleChangeRequest) {
         userAdminService.changeUserRole(userId, userRoleChangeRequest);
     }
+
+    // 여러 사용자의 역할을 청크 단위로 바꾼다. 감사 기록은 @AdminLog 대신 서비스에서 청크마다 한 건씩 남긴다
+    @PatchMapping("/admin/users")
+    public ResponseEntity<UserRoleBulkChangeResponse> changeUserRoles(
+            @Auth AuthUser authUser,
+            @Valid @RequestBody UserRoleBulkChangeRequest userRoleBulkChangeRequest,
+            HttpServletRequest request
+    ) {
+        return ResponseEntity.ok(userAdminService.changeUserRoles(authUser, request.getRequestURI(), userRoleBulkChangeRequest));
+    }
 }
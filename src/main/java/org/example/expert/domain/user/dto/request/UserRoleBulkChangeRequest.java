@@ -0,0 +1,25 @@
+package org.example.expert.domain.user.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserRoleBulkChangeRequest {
+
+    public static final int MAX_SIZE = 10000;
+
+    // userIds 와 currentRole 중 하나만 지정한다. currentRole 을 지정하면 현재 그 역할인 사용자 전체가 대상이다
+    @Size(max = MAX_SIZE)
+    private List<Long> userIds;
+    private String currentRole;
+
+    @NotBlank
+    private String role;
+}
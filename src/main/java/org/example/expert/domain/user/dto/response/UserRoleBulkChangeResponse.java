@@ -0,0 +1,22 @@
+package org.example.expert.domain.user.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class UserRoleBulkChangeResponse {
+
+    private final String role;
+    private final int targetCount;
+    // 이미 같은 역할이었거나 존재하지 않는 사용자는 unchangedCount 에 포함된다
+    private final int changedCount;
+    private final int unchangedCount;
+    private final int batchCount;
+
+    public UserRoleBulkChangeResponse(String role, int targetCount, int changedCount, int batchCount) {
+        this.role = role;
+        this.targetCount = targetCount;
+        this.changedCount = changedCount;
+        this.unchangedCount = targetCount - changedCount;
+        this.batchCount = batchCount;
+    }
+}
@@ -1,11 +1,38 @@
 package org.example.expert.domain.user.repository;
 
+import jakarta.persistence.QueryHint;
+import org.example.expert.config.SecondLevelCacheConfig;
 import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
+    // 결과 id 는 쿼리 캐시에, User 는 users 영역에 보관된다. users 테이블이 변경되면 쿼리 캐시가 무효화된다
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = SecondLevelCacheConfig.USER_BY_EMAIL_REGION)
+    })
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    // 역할 일괄 변경 대상: 현재 역할이 role 인 사용자 id 를 PK 순서로 잘라 읽는다
+    @Query(value = "SELECT id FROM users WHERE user_role = :role AND id > :afterId ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<Long> findIdsByRoleAfter(@Param("role") String role, @Param("afterId") Long afterId, @Param("limit") int limit);
+
+    // 이미 같은 역할인 행은 건드리지 않고 실제로 바뀐 행 수를 반환한다. 벌크 UPDATE 라 수정일을 직접 갱신한다
+    // users 2차 캐시 영역과 findByEmail 쿼리 캐시가 무효화되므로 바뀐 역할이 캐시에 남지 않는다
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE User u SET u.userRole = :role, u.modifiedAt = :modifiedAt WHERE u.id IN :ids AND u.userRole <> :role")
+    int updateRoleByIdIn(@Param("ids") List<Long> ids, @Param("role") UserRole role, @Param("modifiedAt") LocalDateTime modifiedAt);
 }
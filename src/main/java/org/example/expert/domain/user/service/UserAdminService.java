@@ -1,23 +1,87 @@
 package org.example.expert.domain.user.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.config.aop.AdminAuditLog;
+import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.dto.request.UserRoleBulkChangeRequest;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.example.expert.domain.user.dto.response.UserRoleBulkChangeResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
 @Service
 @RequiredArgsConstructor
 public class UserAdminService {
 
+    static final int CHUNK_SIZE = 1000;
+
     private final UserRepository userRepository;
+    private final AdminAuditLog adminAuditLog;
 
     @Transactional
     public void changeUserRole(long userId, UserRoleChangeRequest userRoleChangeRequest) {
         User user = userRepository.findById(userId).orElseThrow(() -> new InvalidRequestException("User not found"));
         user.updateRole(UserRole.of(userRoleChangeRequest.getRole()));
     }
+
+    // CHUNK_SIZE 건씩 UPDATE ... WHERE id IN (...) 한 번(별도 트랜잭션)으로 바꾸고, 청크마다 감사 기록을 한 건 남긴다
+    // 중간에 실패해도 앞선 청크는 반영되며, 같은 요청을 다시 보내면 이미 바뀐 사용자는 건너뛴다
+    public UserRoleBulkChangeResponse changeUserRoles(AuthUser admin, String requestURI, UserRoleBulkChangeRequest request) {
+        UserRole role = UserRole.of(request.getRole());
+        boolean byIds = request.getUserIds() != null && !request.getUserIds().isEmpty();
+        boolean byRole = request.getCurrentRole() != null;
+        if (byIds == byRole) {
+            throw new InvalidRequestException("userIds 와 currentRole 중 하나만 지정해야 합니다.");
+        }
+
+        int target = 0;
+        int changed = 0;
+        int batch = 0;
+        if (byIds) {
+            List<Long> userIds = request.getUserIds().stream().distinct().toList();
+            for (int from = 0; from < userIds.size(); from += CHUNK_SIZE) {
+                List<Long> chunk = userIds.subList(from, Math.min(from + CHUNK_SIZE, userIds.size()));
+                changed += changeChunk(admin, requestURI, ++batch, chunk, role);
+                target += chunk.size();
+            }
+        } else {
+            UserRole currentRole = UserRole.of(request.getCurrentRole());
+            if (currentRole == role) {
+                throw new InvalidRequestException("현재 역할과 변경할 역할이 같습니다.");
+            }
+            long afterId = 0;
+            List<Long> chunk;
+            do {
+                chunk = userRepository.findIdsByRoleAfter(currentRole.name(), afterId, CHUNK_SIZE);
+                if (!chunk.isEmpty()) {
+                    changed += changeChunk(admin, requestURI, ++batch, chunk, role);
+                    target += chunk.size();
+                    afterId = chunk.get(chunk.size() - 1);
+                }
+            } while (chunk.size() == CHUNK_SIZE);
+        }
+        return new UserRoleBulkChangeResponse(role.name(), target, changed, batch);
+    }
+
+    private int changeChunk(AuthUser admin, String requestURI, int batch, List<Long> userIds, UserRole role) {
+        long requestTime = System.currentTimeMillis();
+        Object[] args = {Map.of("batch", batch, "userIds", userIds, "role", role)};
+        try {
+            int changed = userRepository.updateRoleByIdIn(userIds, role, LocalDateTime.now());
+            adminAuditLog.record(admin.getId(), requestTime, requestURI, args,
+                    Map.of("requested", userIds.size(), "changed", changed), null);
+            return changed;
+        } catch (RuntimeException e) {
+            adminAuditLog.record(admin.getId(), requestTime, requestURI, args, null, e.getMessage());
+            throw e;
+        }
+    }
 }
@@ -0,0 +1,83 @@
+package org.example.expert.client;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.web.client.RestTemplate;
+
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 테스트용 로컬 날씨 API 서버.
+ * 응답 지연과 상태 코드를 조절할 수 있고, 받은 요청 수를 기록한다.
+ */
+public class StubWeatherServer implements AutoCloseable {
+
+	private static final byte[] BODY = ("[{\"date\":\"01-01\",\"weather\":\"Sunny\"},"
+		+ "{\"date\":\"01-02\",\"weather\":\"Rainy\"}]").getBytes(StandardCharsets.UTF_8);
+
+	private final HttpServer server;
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+	private final AtomicInteger hits = new AtomicInteger();
+	private volatile long delayMillis;
+	private volatile int status = 200;
+
+	public StubWeatherServer() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.createContext("/f-api/weather.json", exchange -> {
+			hits.incrementAndGet();
+			sleep(delayMillis);
+			exchange.getResponseHeaders().add("Content-Type", "application/json");
+			exchange.sendResponseHeaders(status, BODY.length);
+			try (OutputStream os = exchange.getResponseBody()) {
+				os.write(BODY);
+			}
+		});
+		server.setExecutor(executor);
+		server.start();
+	}
+
+	public String baseUrl() {
+		return "http://localhost:" + server.getAddress().getPort();
+	}
+
+	public int hits() {
+		return hits.get();
+	}
+
+	public void delay(long millis) {
+		this.delayMillis = millis;
+	}
+
+	public void status(int status) {
+		this.status = status;
+	}
+
+	// 서킷 브레이커와 동시 호출 제한이 기본값인 클라이언트
+	public WeatherClient newClient() {
+		return new WeatherClient(new RestTemplate(), new CircuitBreaker(5, Duration.ofSeconds(30)),
+			new SimpleMeterRegistry(), baseUrl(), 100);
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+		executor.shutdownNow();
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
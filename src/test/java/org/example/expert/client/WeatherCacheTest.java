@@ -0,0 +1,163 @@
+package org.example.expert.client;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.example.expert.domain.common.exception.ServerException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class WeatherCacheTest {
+
+	private static final ZoneId ZONE = ZoneOffset.UTC;
+
+	private StubWeatherServer server;
+
+	private MutableClock clock;
+	private WeatherCache weatherCache;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		server = new StubWeatherServer();
+		WeatherClient weatherClient = server.newClient();
+
+		clock = new MutableClock(LocalDate.of(2025, 1, 1).atStartOfDay(ZONE).toInstant());
+		weatherCache = new WeatherCache(weatherClient, Duration.ofSeconds(2), null, clock);
+	}
+
+	@AfterEach
+	void tearDown() {
+		weatherCache.shutdown();
+		server.close();
+	}
+
+	@Test
+	@DisplayName("같은 날짜의 날씨는 한 번만 조회하고 이후에는 캐시에서 반환한다.")
+	public void cachedWeatherIsReused() {
+		//when
+		String first = weatherCache.getTodayWeather();
+		String second = weatherCache.getTodayWeather();
+
+		//then
+		assertEquals("Sunny", first);
+		assertEquals("Sunny", second);
+		assertEquals(1, server.hits());
+	}
+
+	@Test
+	@DisplayName("동시에 발생한 캐시 미스는 하나의 외부 요청으로 합쳐진다.")
+	public void concurrentMissesAreCollapsed() throws Exception {
+		//given
+		server.delay(300);
+		int threads = 16;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<String>> results = new ArrayList<>();
+
+		//when
+		for (int i = 0; i < threads; i++) {
+			results.add(executor.submit(() -> {
+				start.await();
+				return weatherCache.getTodayWeather();
+			}));
+		}
+		start.countDown();
+
+		//then
+		for (Future<String> result : results) {
+			assertEquals("Sunny", result.get());
+		}
+		assertEquals(1, server.hits());
+		executor.shutdown();
+	}
+
+	@Test
+	@DisplayName("날짜가 바뀐 뒤 외부 API가 느리면 갱신을 기다리지 않고 마지막 날씨를 반환한다.")
+	public void staleWeatherIsServedWhileUpstreamIsSlow() {
+		//given
+		weatherCache.getTodayWeather();
+		server.delay(1_000);
+		clock.advance(Duration.ofDays(1));
+
+		//when
+		long startedAt = System.nanoTime();
+		String weather = weatherCache.getTodayWeather();
+		long elapsedMillis = Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+
+		//then
+		assertEquals("Sunny", weather);
+		assertThat(elapsedMillis).isLessThan(500);
+		assertEquals("Rainy", weatherCache.refresh(LocalDate.now(clock)).join());
+		assertEquals("Rainy", weatherCache.getTodayWeather());
+	}
+
+	@Test
+	@DisplayName("캐시가 비어있고 외부 API가 대기 시간을 넘기면 예외가 발생한다.")
+	public void coldMissTimesOut() {
+		//given
+		server.delay(3_000);
+
+		//when && then
+		ServerException ex = assertThrows(ServerException.class, () -> weatherCache.getTodayWeather());
+		assertEquals("날씨 데이터 응답이 지연되고 있습니다.", ex.getMessage());
+	}
+
+	@Test
+	@DisplayName("캐시가 비어있고 외부 API가 실패하면 설정된 기본 날씨를 반환한다.")
+	public void coldMissFallsBackToDefaultWeather() {
+		//given
+		WeatherCache fallbackCache = new WeatherCache(server.newClient(), Duration.ofSeconds(2), "Unknown", clock);
+		server.status(500);
+
+		//when
+		String weather = fallbackCache.getTodayWeather();
+
+		//then
+		assertEquals("Unknown", weather);
+		fallbackCache.shutdown();
+	}
+
+	private static class MutableClock extends Clock {
+
+		private volatile Instant instant;
+
+		MutableClock(Instant instant) {
+			this.instant = instant;
+		}
+
+		void advance(Duration duration) {
+			instant = instant.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZONE;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return instant;
+		}
+	}
+}
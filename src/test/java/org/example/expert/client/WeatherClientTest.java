@@ -0,0 +1,137 @@
+package org.example.expert.client;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.example.expert.config.WeatherClientConfig;
+import org.example.expert.domain.common.exception.ServerException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class WeatherClientTest {
+
+	private static final LocalDate DATE = LocalDate.of(2025, 1, 1);
+
+	private StubWeatherServer server;
+	private HttpComponentsClientHttpRequestFactory requestFactory;
+	private SimpleMeterRegistry meterRegistry;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		server = new StubWeatherServer();
+		requestFactory = new WeatherClientConfig().weatherRequestFactory(
+			4, Duration.ofMillis(500), Duration.ofMillis(300), Duration.ofSeconds(30));
+		meterRegistry = new SimpleMeterRegistry();
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		requestFactory.destroy();
+		server.close();
+	}
+
+	private WeatherClient createClient(CircuitBreaker circuitBreaker, int maxConcurrentCalls) {
+		return new WeatherClient(new RestTemplate(requestFactory), circuitBreaker, meterRegistry,
+			server.baseUrl(), maxConcurrentCalls);
+	}
+
+	@Test
+	@DisplayName("풀링된 HTTP 엔진으로 날씨를 조회하고 응답 시간을 기록한다.")
+	public void successGetWeatherRecordsLatency() {
+		//given
+		WeatherClient weatherClient = createClient(new CircuitBreaker(3, Duration.ofSeconds(30)), 10);
+
+		//when
+		String weather = weatherClient.getWeather(DATE);
+		weatherClient.getWeather(DATE);
+
+		//then
+		assertEquals("Sunny", weather);
+		assertEquals(2, meterRegistry.get("weather.client.requests").tag("outcome", "success").timer().count());
+	}
+
+	@Test
+	@DisplayName("응답이 read timeout 을 넘기면 예외가 발생하고 실패로 기록된다.")
+	public void slowResponseTimesOut() {
+		//given
+		WeatherClient weatherClient = createClient(new CircuitBreaker(3, Duration.ofSeconds(30)), 10);
+		server.delay(1_000);
+
+		//when
+		long startedAt = System.nanoTime();
+		assertThrows(RuntimeException.class, () -> weatherClient.getWeather(DATE));
+		long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+		//then
+		assertThat(elapsedMillis).isLessThan(1_000);
+		assertEquals(1, meterRegistry.get("weather.client.requests").tag("outcome", "failure").timer().count());
+	}
+
+	@Test
+	@DisplayName("연속 실패가 임계치에 도달하면 서킷이 열리고 외부 API를 호출하지 않고 즉시 실패한다.")
+	public void circuitOpensAfterConsecutiveFailures() {
+		//given
+		WeatherClient weatherClient = createClient(new CircuitBreaker(3, Duration.ofSeconds(30)), 10);
+		server.status(500);
+
+		for (int i = 0; i < 3; i++) {
+			assertThrows(RuntimeException.class, () -> weatherClient.getWeather(DATE));
+		}
+
+		//when
+		ServerException ex = assertThrows(ServerException.class, () -> weatherClient.getWeather(DATE));
+
+		//then
+		assertEquals("날씨 API 호출이 일시적으로 차단되었습니다.", ex.getMessage());
+		assertEquals(3, server.hits());
+		assertEquals(1.0, meterRegistry.get("weather.client.circuit.state").tag("state", "open").gauge().value());
+		assertEquals(1.0, meterRegistry.get("weather.client.rejected").tag("reason", "circuit_open").counter().count());
+	}
+
+	@Test
+	@DisplayName("서킷이 열린 뒤 대기 시간이 지나면 시험 호출이 성공할 때 다시 닫힌다.")
+	public void circuitClosesAfterSuccessfulTrial() {
+		//given
+		WeatherClient weatherClient = createClient(new CircuitBreaker(1, Duration.ZERO), 10);
+		server.status(500);
+		assertThrows(RuntimeException.class, () -> weatherClient.getWeather(DATE));
+		server.status(200);
+
+		//when
+		String weather = weatherClient.getWeather(DATE);
+
+		//then
+		assertEquals("Sunny", weather);
+		assertEquals(1.0, meterRegistry.get("weather.client.circuit.state").tag("state", "closed").gauge().value());
+	}
+
+	@Test
+	@DisplayName("동시 호출 한도를 넘는 요청은 기다리지 않고 즉시 거절된다.")
+	public void bulkheadRejectsExcessCalls() throws Exception {
+		//given
+		WeatherClient weatherClient = createClient(new CircuitBreaker(3, Duration.ofSeconds(30)), 1);
+		server.delay(200);
+		CompletableFuture<String> inFlight = CompletableFuture.supplyAsync(() -> weatherClient.getWeather(DATE));
+		Thread.sleep(50);
+
+		//when
+		ServerException ex = assertThrows(ServerException.class, () -> weatherClient.getWeather(DATE));
+
+		//then
+		assertEquals("날씨 API 동시 호출 한도를 초과했습니다.", ex.getMessage());
+		assertEquals("Sunny", inFlight.get(1, TimeUnit.SECONDS));
+		assertEquals(1.0, meterRegistry.get("weather.client.rejected").tag("reason", "bulkhead_full").counter().count());
+	}
+}
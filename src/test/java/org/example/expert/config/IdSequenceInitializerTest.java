@@ -0,0 +1,75 @@
+package org.example.expert.config;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+// id 조회는 별도 트랜잭션에서 id_sequences 를 갱신하므로 테스트 메서드를 트랜잭션으로 감싸지 않는다
+@DataJpaTest
+@Import({PersistenceConfig.class, IdSequenceInitializer.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class IdSequenceInitializerTest {
+
+	@Autowired
+	private IdSequenceInitializer idSequenceInitializer;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.update("DELETE FROM users");
+	}
+
+	private Long nextVal(String sequenceName) {
+		return jdbcTemplate.queryForObject(
+			"SELECT next_val FROM id_sequences WHERE sequence_name = ?", Long.class, sequenceName);
+	}
+
+	@Test
+	@DisplayName("기존 데이터가 있는 테이블의 id_sequences 값을 MAX(id) 뒤로 올리고 없는 행은 새로 넣는다.")
+	public void initialize_기존_데이터_뒤로_보정() {
+	    //given
+		jdbcTemplate.update("INSERT INTO users (id, email, password, user_role, created_at, modified_at) " +
+			"SELECT X, 'user' || X || '@test.com', '1234', 'USER', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP " +
+			"FROM SYSTEM_RANGE(1, 120)");
+		// ddl-auto 가 테이블을 만들며 넣은 초기값과 행이 없는 경우
+		jdbcTemplate.update("UPDATE id_sequences SET next_val = 0 WHERE sequence_name = 'users'");
+		jdbcTemplate.update("DELETE FROM id_sequences WHERE sequence_name = 'todos'");
+
+		//when
+		idSequenceInitializer.initialize();
+		User saved = userRepository.save(new User("new@test.com", "1234", UserRole.USER));
+
+		//then
+		assertThat(nextVal("todos")).isEqualTo(IdSequenceInitializer.ALLOCATION_SIZE - 1L);
+		assertThat(saved.getId()).isEqualTo(121L);
+	}
+
+	@Test
+	@DisplayName("이미 MAX(id) 보다 앞서 있는 값은 낮추지 않는다.")
+	public void initialize_앞선_값은_유지() {
+	    //given
+		jdbcTemplate.update("UPDATE id_sequences SET next_val = 1000 WHERE sequence_name = 'comments'");
+
+		//when
+		idSequenceInitializer.initialize();
+
+		//then
+		assertThat(nextVal("comments")).isEqualTo(1000L);
+	}
+}
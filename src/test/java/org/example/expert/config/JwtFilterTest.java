@@ -0,0 +1,101 @@
+package org.example.expert.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class JwtFilterTest {
+
+	private JwtUtil jwtUtil;
+	private JwtFilter jwtFilter;
+
+	@BeforeEach
+	void setUp() {
+		String secretKey = Base64.getEncoder().encodeToString("test-secret-key-test-secret-key-test".getBytes());
+		jwtUtil = new JwtUtil(secretKey, 100);
+		jwtUtil.init();
+		jwtFilter = new JwtFilter(jwtUtil, new ErrorResponseBodies(new ObjectMapper()));
+	}
+
+	private MockHttpServletRequest request(String uri, UserRole userRole) {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+		request.addHeader("Authorization", jwtUtil.createToken(1L, "test@test.com", userRole));
+		return request;
+	}
+
+	@Test
+	@DisplayName("유효한 토큰이면 AuthUser 하나를 만들어 요청 attribute 에 저장한다.")
+	public void storesAuthUserAttribute() throws Exception {
+		//given
+		MockHttpServletRequest request = request("/todos", UserRole.USER);
+		MockFilterChain chain = new MockFilterChain();
+
+		//when
+		jwtFilter.doFilter(request, new MockHttpServletResponse(), chain);
+
+		//then
+		AuthUser authUser = (AuthUser)request.getAttribute(JwtFilter.AUTH_USER_ATTRIBUTE);
+		assertNotNull(chain.getRequest());
+		assertEquals(1L, authUser.getId());
+		assertEquals("test@test.com", authUser.getEmail());
+		assertEquals(UserRole.USER, authUser.getUserRole());
+	}
+
+	@Test
+	@DisplayName("ADMIN 이 아닌 사용자가 /admin 경로에 접근하면 403 을 반환한다.")
+	public void rejectsNonAdminOnAdminPath() throws Exception {
+		//given
+		MockHttpServletRequest request = request("/admin/users/1", UserRole.USER);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		MockFilterChain chain = new MockFilterChain();
+
+		//when
+		jwtFilter.doFilter(request, response, chain);
+
+		//then
+		assertEquals(403, response.getStatus());
+		assertNull(chain.getRequest());
+	}
+
+	@Test
+	@DisplayName("인증 헤더가 없으면 401 을 반환한다.")
+	public void rejectsMissingAuthorizationHeader() throws Exception {
+		//given
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		//when
+		jwtFilter.doFilter(new MockHttpServletRequest("GET", "/todos"), response, new MockFilterChain());
+
+		//then
+		assertEquals(401, response.getStatus());
+		assertEquals("{\"status\":\"UNAUTHORIZED\",\"code\":401,\"message\":\"인증이 필요합니다.\"}",
+			response.getContentAsString(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	@DisplayName("같은 상태 코드와 메시지의 에러 응답 본문은 한 번만 직렬화하여 재사용한다.")
+	public void errorResponseBodyIsReused() {
+		//given
+		ErrorResponseBodies errorResponseBodies = new ErrorResponseBodies(new ObjectMapper());
+
+		//when
+		byte[] first = errorResponseBodies.get(HttpStatus.FORBIDDEN, "접근 권한이 없습니다.");
+		byte[] second = errorResponseBodies.get(HttpStatus.FORBIDDEN, "접근 권한이 없습니다.");
+
+		//then
+		assertSame(first, second);
+	}
+}
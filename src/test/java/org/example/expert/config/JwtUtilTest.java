@@ -0,0 +1,84 @@
+package org.example.expert.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Base64;
+import java.util.Date;
+
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+
+class JwtUtilTest {
+
+	private static final byte[] SECRET = "test-secret-key-test-secret-key-test".getBytes();
+
+	private JwtUtil jwtUtil;
+
+	@BeforeEach
+	void setUp() {
+		jwtUtil = new JwtUtil(Base64.getEncoder().encodeToString(SECRET), 2);
+		jwtUtil.init();
+	}
+
+	private String createToken(long userId) {
+		return jwtUtil.substringToken(jwtUtil.createToken(userId, "test@test.com", UserRole.USER));
+	}
+
+	@Test
+	@DisplayName("검증된 토큰의 Claims 는 캐시되어 같은 토큰은 다시 파싱하지 않는다.")
+	public void verifiedClaimsAreCached() {
+		//given
+		String token = createToken(1L);
+
+		//when
+		Claims first = jwtUtil.extractClaims(token);
+		Claims second = jwtUtil.extractClaims(token);
+
+		//then
+		assertEquals("1", first.getSubject());
+		assertEquals("USER", first.get("userRole", String.class));
+		assertSame(first, second);
+	}
+
+	@Test
+	@DisplayName("캐시된 토큰이라도 만료 시각이 지나면 다시 검증하여 만료 예외가 발생한다.")
+	public void expiredClaimsAreNotServedFromCache() throws InterruptedException {
+		//given
+		String token = Jwts.builder()
+			.setSubject("1")
+			.setExpiration(new Date(System.currentTimeMillis() + 1_000))
+			.signWith(Keys.hmacShaKeyFor(SECRET), SignatureAlgorithm.HS256)
+			.compact();
+		jwtUtil.extractClaims(token);
+
+		//when
+		Thread.sleep(1_100);
+
+		//then
+		assertThrows(ExpiredJwtException.class, () -> jwtUtil.extractClaims(token));
+	}
+
+	@Test
+	@DisplayName("캐시 크기는 설정한 최대 크기를 넘지 않는다.")
+	public void cacheIsBounded() {
+		//given
+		JwtClaimsCache claimsCache = new JwtClaimsCache(2);
+
+		//when
+		for (long userId = 1; userId <= 5; userId++) {
+			String token = createToken(userId);
+			claimsCache.put(token, jwtUtil.extractClaims(token));
+		}
+
+		//then
+		assertTrue(claimsCache.size() <= 2);
+	}
+}
@@ -0,0 +1,158 @@
+package org.example.expert.config;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+// 2차 캐시는 커밋된 데이터만 공유하므로 테스트 메서드를 트랜잭션으로 감싸지 않고 호출마다 트랜잭션을 나눈다
+@DataJpaTest(properties = {
+	"spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+	"spring.jpa.properties.hibernate.cache.use_query_cache=true",
+	"spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({PersistenceConfig.class, SecondLevelCacheConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest {
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private TodoRepository todoRepository;
+
+	@Autowired
+	private ManagerRepository managerRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private Statistics statistics;
+	private TransactionTemplate transaction;
+
+	@BeforeEach
+	void setUp() {
+		entityManagerFactory.getCache().evictAll();
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		transaction = new TransactionTemplate(transactionManager);
+	}
+
+	@Test
+	@DisplayName("한 번 조회한 User 는 다음 트랜잭션에서 DB 를 조회하지 않고 2차 캐시에서 가져온다.")
+	public void userIsServedFromSecondLevelCache() {
+		//given
+		Long userId = userRepository.save(new User("cache1@test.com", "1234", UserRole.USER)).getId();
+		entityManagerFactory.getCache().evictAll();
+		transaction.execute(status -> userRepository.findById(userId).orElseThrow());
+		statistics.clear();
+
+		//when
+		User user = transaction.execute(status -> userRepository.findById(userId).orElseThrow());
+
+		//then
+		assertThat(user.getEmail()).isEqualTo("cache1@test.com");
+		assertThat(statistics.getPrepareStatementCount()).isZero();
+		assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("findByEmail 결과는 쿼리 캐시에 보관되고, users 테이블이 변경되면 다시 DB 에서 조회한다.")
+	public void findByEmailUsesQueryCacheUntilUsersChange() {
+		//given
+		userRepository.save(new User("cache2@test.com", "1234", UserRole.USER));
+		transaction.execute(status -> userRepository.findByEmail("cache2@test.com").orElseThrow());
+		statistics.clear();
+
+		//when
+		transaction.execute(status -> userRepository.findByEmail("cache2@test.com").orElseThrow());
+		long statementsWhileCached = statistics.getPrepareStatementCount();
+
+		userRepository.save(new User("cache3@test.com", "1234", UserRole.USER));
+		statistics.clear();
+		transaction.execute(status -> userRepository.findByEmail("cache2@test.com").orElseThrow());
+
+		//then
+		assertThat(statementsWhileCached).isZero();
+		assertThat(statistics.getQueryCacheMissCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("벌크 UPDATE 로 삭제 표시된 Todo 는 2차 캐시에 남아 있지 않고 조회되지 않는다.")
+	public void softDeletedTodoIsNotServedFromCache() {
+		//given
+		User user = userRepository.save(new User("cache4@test.com", "1234", UserRole.USER));
+		Long todoId = todoRepository.save(new Todo("제목", "내용", "Sunny", user)).getId();
+		transaction.execute(status -> todoRepository.findById(todoId).orElseThrow());
+
+		//when
+		todoRepository.softDeleteById(todoId, LocalDateTime.now());
+
+		//then
+		Optional<Todo> found = transaction.execute(status -> todoRepository.findById(todoId));
+		assertThat(found).isEmpty();
+	}
+
+	@Test
+	@DisplayName("Todo 행을 삭제해도 todos 와 관계없는 User 2차 캐시는 비우지 않는다.")
+	public void hardDeleteKeepsUnrelatedCacheRegions() {
+		//given
+		User user = userRepository.save(new User("cache6@test.com", "1234", UserRole.USER));
+		Long todoId = todoRepository.save(new Todo("제목", "내용", "Sunny", user)).getId();
+		managerRepository.deleteAllByTodoId(todoId);
+		transaction.execute(status -> userRepository.findById(user.getId()).orElseThrow());
+
+		//when
+		int deleted = todoRepository.hardDeleteById(todoId);
+
+		//then
+		assertThat(deleted).isEqualTo(1);
+		assertThat(entityManagerFactory.getCache().contains(User.class, user.getId())).isTrue();
+		Optional<Todo> found = transaction.execute(status -> todoRepository.findById(todoId));
+		assertThat(found).isEmpty();
+	}
+
+	@Test
+	@DisplayName("카운터를 바꾼 Todo 는 커밋 후에 2차 캐시에서 제거되어 다음 조회에서 바뀐 값을 읽는다.")
+	public void counterUpdateEvictsTodoAfterCommit() {
+		//given
+		User user = userRepository.save(new User("cache5@test.com", "1234", UserRole.USER));
+		Long todoId = todoRepository.save(new Todo("제목", "내용", "Sunny", user)).getId();
+		transaction.execute(status -> todoRepository.findById(todoId).orElseThrow());
+
+		//when
+		Boolean cachedBeforeCommit = transaction.execute(status -> {
+			todoRepository.addCommentCount(todoId, 1);
+			return entityManagerFactory.getCache().contains(Todo.class, todoId);
+		});
+
+		//then
+		assertThat(cachedBeforeCommit).isTrue();
+		assertThat(entityManagerFactory.getCache().contains(Todo.class, todoId)).isFalse();
+		Todo found = transaction.execute(status -> todoRepository.findById(todoId).orElseThrow());
+		assertThat(found.getCommentCount()).isEqualTo(1);
+	}
+}
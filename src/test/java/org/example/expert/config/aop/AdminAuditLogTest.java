@@ -0,0 +1,128 @@
+package org.example.expert.config.aop;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.ResponseEntity;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AdminAuditLogTest {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	@DisplayName("기록된 이벤트는 writer 스레드가 감사 로그 파일에 JSON 한 줄씩 append 한다.")
+	public void writesEventsAsJsonLines() throws Exception {
+		//given
+		Path file = tempDir.resolve("audit/admin-audit.log");
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		AdminAuditLog adminAuditLog = new AdminAuditLog(new ObjectMapper(), meterRegistry, file.toString(),
+			16, 4, Duration.ofMillis(10));
+
+		//when
+		for (long userId = 1; userId <= 10; userId++) {
+			adminAuditLog.record(userId, 0L, "/admin/comments/" + userId, new Object[] {userId}, null, null);
+		}
+		adminAuditLog.shutdown();
+
+		//then
+		List<String> lines = Files.readAllLines(file);
+		assertEquals(10, lines.size());
+		assertTrue(lines.get(0).contains("\"requestURI\":\"/admin/comments/1\""));
+		assertTrue(lines.get(0).contains("\"args\":[1]"));
+		assertEquals(10.0, meterRegistry.get("admin.audit.events").tag("outcome", "enqueued").counter().count());
+		assertEquals(10.0, meterRegistry.get("admin.audit.events").tag("outcome", "flushed").counter().count());
+	}
+
+	@Test
+	@DisplayName("요청 스레드에서 인자 컬렉션을 복사해 두므로 기록 후 인자 객체가 바뀌어도 기록된 내용은 바뀌지 않는다.")
+	public void snapshotsArgsOnRecord() throws Exception {
+		//given
+		Path file = tempDir.resolve("admin-audit.log");
+		AdminAuditLog adminAuditLog = new AdminAuditLog(new ObjectMapper(), new SimpleMeterRegistry(), file.toString(),
+			16, 4, Duration.ofMillis(10));
+		List<Long> userIds = new ArrayList<>(List.of(1L, 2L));
+
+		//when
+		adminAuditLog.record(1L, 0L, "/admin/users", new Object[] {userIds}, null, null);
+		userIds.add(3L);
+		adminAuditLog.shutdown();
+
+		//then
+		assertTrue(Files.readAllLines(file).get(0).contains("\"args\":[[1,2]]"));
+	}
+
+	@Test
+	@DisplayName("ResponseEntity 응답은 상태 코드와 본문만 기록한다.")
+	public void recordsStatusAndBodyOfResponseEntity() throws Exception {
+		//given
+		Path file = tempDir.resolve("admin-audit.log");
+		AdminAuditLog adminAuditLog = new AdminAuditLog(new ObjectMapper(), new SimpleMeterRegistry(), file.toString(),
+			16, 4, Duration.ofMillis(10));
+
+		//when
+		adminAuditLog.record(1L, 0L, "/admin/users", new Object[] {}, ResponseEntity.ok(Map.of("changed", 2)), null);
+		adminAuditLog.shutdown();
+
+		//then
+		assertTrue(Files.readAllLines(file).get(0).contains("\"response\":{\"status\":200,\"body\":{\"changed\":2}}"));
+	}
+
+	@Test
+	@DisplayName("파일을 열지 못해도 writer 스레드는 멈추지 않고 다시 열어 버퍼에 남은 이벤트를 기록한다.")
+	public void reopensFileAfterFailure() throws Exception {
+		//given
+		// 상위 경로가 일반 파일이면 디렉터리를 만들지 못해 파일 열기에 실패한다
+		Path blocker = Files.createFile(tempDir.resolve("blocker"));
+		Path file = blocker.resolve("admin-audit.log");
+		AdminAuditLog adminAuditLog = new AdminAuditLog(new ObjectMapper(), new SimpleMeterRegistry(), file.toString(),
+			16, 4, Duration.ofMillis(10));
+		adminAuditLog.record(1L, 0L, "/admin/comments/1", null, null, null);
+		Thread.sleep(100);
+
+		//when
+		Files.delete(blocker);
+		long deadline = System.currentTimeMillis() + 5_000;
+		while (!Files.exists(file) && System.currentTimeMillis() < deadline) {
+			Thread.sleep(20);
+		}
+		adminAuditLog.record(2L, 0L, "/admin/comments/2", null, null, null);
+		adminAuditLog.shutdown();
+
+		//then
+		assertEquals(2, Files.readAllLines(file).size());
+	}
+
+	@Test
+	@DisplayName("링 버퍼가 가득 차면 기다리지 않고 새 이벤트를 거절한다.")
+	public void ringBufferRejectsWhenFull() {
+		//given
+		AdminAuditRingBuffer<String> buffer = new AdminAuditRingBuffer<>(3);
+
+		//when
+		for (int i = 0; i < buffer.capacity(); i++) {
+			assertTrue(buffer.offer("event-" + i));
+		}
+		boolean accepted = buffer.offer("overflow");
+
+		//then
+		assertEquals(4, buffer.capacity());
+		assertFalse(accepted);
+		assertEquals("event-0", buffer.poll());
+		assertTrue(buffer.offer("overflow"));
+		assertEquals(4, buffer.size());
+	}
+}
@@ -0,0 +1,228 @@
+package org.example.expert.config.datasource;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+// primary 와 복제본을 서로 다른 H2 in-memory DB 로 띄우고, 커넥션의 catalog(DB 이름)로 어느 쪽이 사용됐는지 확인한다
+class ReplicaDataSourceTest {
+
+	private static final String PRIMARY_URL = "jdbc:h2:mem:primary;DB_CLOSE_DELAY=-1";
+	private static final String REPLICA1_URL = "jdbc:h2:mem:replica1;DB_CLOSE_DELAY=-1";
+	private static final String REPLICA2_URL = "jdbc:h2:mem:replica2;DB_CLOSE_DELAY=-1";
+	private static final String PRIMARY = "PRIMARY";
+	private static final String REPLICA1 = "REPLICA1";
+	private static final String REPLICA2 = "REPLICA2";
+
+	private final DataSource primary = dataSource(PRIMARY_URL);
+
+	@AfterEach
+	void tearDown() {
+		ReadYourWrites.forcePrimary(false);
+	}
+
+	@Test
+	@DisplayName("ROUND_ROBIN 은 복제본을 차례대로 사용한다.")
+	public void roundRobinAlternatesReplicas() throws SQLException {
+		//given
+		ReplicaDataSource replicas = new ReplicaDataSource(primary,
+			List.of(dataSource(REPLICA1_URL), dataSource(REPLICA2_URL)), ReplicaSelection.ROUND_ROBIN);
+
+		//when && then
+		assertThat(List.of(databaseOf(replicas), databaseOf(replicas), databaseOf(replicas)))
+			.containsExactly(REPLICA1, REPLICA2, REPLICA1);
+	}
+
+	@Test
+	@DisplayName("LEAST_LOADED 는 사용 중인 커넥션이 가장 적은 복제본을 사용한다.")
+	public void leastLoadedPicksIdleReplica() throws Exception {
+		//given
+		try (HikariDataSource replica1 = hikari(REPLICA1_URL); HikariDataSource replica2 = hikari(REPLICA2_URL)) {
+			ReplicaDataSource replicas = new ReplicaDataSource(primary, List.of(replica1, replica2),
+				ReplicaSelection.LEAST_LOADED);
+
+			//when
+			try (Connection busy = replica1.getConnection()) {
+				//then
+				assertThat(databaseOf(replicas)).isEqualTo(REPLICA2);
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("연결할 수 없는 복제본은 건너뛰고, 사용할 수 있는 복제본이 없으면 primary 를 사용한다.")
+	public void fallsBackToPrimaryWhenReplicasAreDown() throws SQLException {
+		//given
+		DataSource down = dataSource("jdbc:h2:mem:down;IFEXISTS=TRUE");
+		ReplicaDataSource replicas = new ReplicaDataSource(primary, List.of(down, dataSource(REPLICA1_URL)),
+			ReplicaSelection.ROUND_ROBIN);
+		ReplicaDataSource allDown = new ReplicaDataSource(primary, List.of(down), ReplicaSelection.ROUND_ROBIN);
+
+		//when && then
+		assertThat(databaseOf(replicas)).isEqualTo(REPLICA1);
+		assertThat(replicas.healthyCount()).isEqualTo(1);
+		assertThat(databaseOf(allDown)).isEqualTo(PRIMARY);
+
+		allDown.checkHealth();
+		assertThat(allDown.healthyCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("풀이 가득 차 커넥션을 얻지 못한 복제본은 비정상으로 표시하지 않는다.")
+	public void exhaustedPoolIsNotMarkedUnhealthy() throws Exception {
+		//given
+		try (HikariDataSource replica = hikari(REPLICA1_URL)) {
+			replica.setMaximumPoolSize(1);
+			replica.setConnectionTimeout(250);
+			ReplicaDataSource replicas = new ReplicaDataSource(primary, List.of(replica), ReplicaSelection.ROUND_ROBIN);
+
+			//when
+			try (Connection busy = replica.getConnection()) {
+				//then
+				assertThat(databaseOf(replicas)).isEqualTo(PRIMARY);
+				assertThat(replicas.healthyCount()).isEqualTo(1);
+			}
+			assertThat(databaseOf(replicas)).isEqualTo(REPLICA1);
+		}
+	}
+
+	@Test
+	@DisplayName("계정을 지정한 커넥션 요청도 선택된 복제본으로 보낸다.")
+	public void getConnectionWithCredentialsUsesReplica() throws SQLException {
+		//given
+		ReplicaDataSource replicas = new ReplicaDataSource(primary, List.of(dataSource(REPLICA1_URL)),
+			ReplicaSelection.ROUND_ROBIN);
+
+		//when
+		try (Connection connection = replicas.getConnection("sa", "")) {
+			//then
+			assertThat(connection.getCatalog()).isEqualTo(REPLICA1);
+		}
+	}
+
+	@Test
+	@DisplayName("복제본 상태 확인은 전용 스레드에서 주기적으로 실행되고, 다시 연결되는 복제본은 정상으로 복구된다.")
+	public void healthCheckRunsOnDedicatedThread() throws Exception {
+		//given
+		DataSource replica = mock(DataSource.class);
+		List<String> threads = new CopyOnWriteArrayList<>();
+		given(replica.getConnection()).willAnswer(invocation -> {
+			threads.add(Thread.currentThread().getName());
+			throw new SQLException("down");
+		}).willAnswer(invocation -> {
+			threads.add(Thread.currentThread().getName());
+			return primary.getConnection();
+		});
+
+		try (ReplicaDataSource replicas = new ReplicaDataSource(primary, List.of(replica), ReplicaSelection.ROUND_ROBIN)) {
+			//when
+			replicas.startHealthCheck(Duration.ofMillis(20));
+			long deadline = System.currentTimeMillis() + 5_000;
+			while ((threads.size() < 2 || replicas.healthyCount() < 1) && System.currentTimeMillis() < deadline) {
+				Thread.sleep(10);
+			}
+
+			//then
+			assertThat(threads).hasSizeGreaterThanOrEqualTo(2).allMatch("replica-health-check"::equals);
+			assertThat(replicas.healthyCount()).isEqualTo(1);
+		}
+	}
+
+	@Test
+	@DisplayName("read-your-writes 로 primary 가 지정된 요청은 복제본을 사용하지 않는다.")
+	public void forcedPrimaryBypassesReplicas() throws SQLException {
+		//given
+		ReplicaDataSource replicas = new ReplicaDataSource(primary, List.of(dataSource(REPLICA1_URL)),
+			ReplicaSelection.ROUND_ROBIN);
+
+		//when
+		ReadYourWrites.forcePrimary(true);
+
+		//then
+		assertThat(databaseOf(replicas)).isEqualTo(PRIMARY);
+	}
+
+	@Test
+	@DisplayName("readOnly 트랜잭션은 복제본으로, 그 외 트랜잭션은 primary 로 보낸다.")
+	public void routesReadOnlyTransactionsToReplica() {
+		//given
+		LazyConnectionDataSourceProxy routing = new LazyConnectionDataSourceProxy(primary);
+		routing.setReadOnlyDataSource(new ReplicaDataSource(primary, List.of(dataSource(REPLICA1_URL)),
+			ReplicaSelection.ROUND_ROBIN));
+		DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(routing);
+
+		TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+		readOnly.setReadOnly(true);
+		TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+
+		//when
+		String readOnlyDatabase = readOnly.execute(status -> jdbcTemplate.execute(databaseCallback()));
+		String readWriteDatabase = readWrite.execute(status -> jdbcTemplate.execute(databaseCallback()));
+
+		//then
+		assertThat(readOnlyDatabase).isEqualTo(REPLICA1);
+		assertThat(readWriteDatabase).isEqualTo(PRIMARY);
+	}
+
+	@Test
+	@DisplayName("쓰기 후 window 동안만 같은 사용자를 primary 로 보낸다.")
+	public void readYourWritesWindow() {
+		//given
+		Clock clock = mock(Clock.class);
+		given(clock.millis()).willReturn(0L, 1_999L, 2_000L, 2_000L);
+		ReadYourWrites readYourWrites = new ReadYourWrites(Duration.ofSeconds(2), clock);
+
+		//when
+		readYourWrites.recordWrite(1L);
+
+		//then
+		assertThat(readYourWrites.isWithinWindow(1L)).isTrue();
+		assertThat(readYourWrites.isWithinWindow(1L)).isFalse();
+		assertThat(readYourWrites.isWithinWindow(2L)).isFalse();
+		readYourWrites.evictExpired();
+		assertThat(readYourWrites.size()).isZero();
+	}
+
+	private static DataSource dataSource(String url) {
+		return new DriverManagerDataSource(url, "sa", "");
+	}
+
+	private static HikariDataSource hikari(String url) {
+		HikariDataSource dataSource = new HikariDataSource();
+		dataSource.setJdbcUrl(url);
+		dataSource.setUsername("sa");
+		dataSource.setMaximumPoolSize(2);
+		return dataSource;
+	}
+
+	private static String databaseOf(DataSource dataSource) throws SQLException {
+		try (Connection connection = dataSource.getConnection()) {
+			return connection.getCatalog();
+		}
+	}
+
+	private static ConnectionCallback<String> databaseCallback() {
+		return Connection::getCatalog;
+	}
+}
@@ -0,0 +1,65 @@
+package org.example.expert.domain.comment.controller;
+
+import static org.mockito.BDDMockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.function.Consumer;
+
+import org.example.expert.config.AuthUserArgumentResolver;
+import org.example.expert.config.ErrorResponseBodies;
+import org.example.expert.config.IoExecutors;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.service.CommentService;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@WebMvcTest(CommentController.class)
+@AutoConfigureMockMvc
+@Import({IoExecutors.class, ErrorResponseBodies.class})
+class CommentControllerTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@MockBean
+	private CommentService commentService;
+
+	@MockBean
+	private AuthUserArgumentResolver authArgumentResolver;
+
+	@Test
+	@DisplayName("stream=true 로 조회하면 댓글을 읽는 대로 JSON 배열로 응답한다.")
+	public void successStreamComments() throws Exception {
+	    //given
+		long todoId = 1L;
+		UserResponse userResponse = new UserResponse(1L, "test@test.com");
+
+		willAnswer(invocation -> {
+			Consumer<CommentResponse> consumer = invocation.getArgument(1);
+			consumer.accept(new CommentResponse(1L, "댓글1", userResponse));
+			consumer.accept(new CommentResponse(2L, "댓글2", userResponse));
+			return null;
+		}).given(commentService).streamComments(eq(todoId), any());
+
+		//when
+		MvcResult result = mockMvc.perform(get("/todos/{todoId}/comments", todoId).param("stream", "true"))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+
+		//then
+		mockMvc.perform(asyncDispatch(result))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.length()").value(2))
+			.andExpect(jsonPath("$[0].contents").value("댓글1"))
+			.andExpect(jsonPath("$[1].user.email").value("test@test.com"));
+	}
+}
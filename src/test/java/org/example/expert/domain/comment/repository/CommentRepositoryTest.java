@@ -0,0 +1,103 @@
+package org.example.expert.domain.comment.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.common.dto.CollectionVersion;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+
+@DataJpaTest
+@Import(PersistenceConfig.class)
+class CommentRepositoryTest {
+
+	@Autowired
+	private CommentRepository commentRepository;
+
+	@Autowired
+	private TodoRepository todoRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	private Todo todo;
+
+	@BeforeEach
+	void setUp() {
+		User user = userRepository.save(new User("test1@test.com", "1234", UserRole.USER));
+		todo = todoRepository.save(new Todo("제목1", "내용1", "Sunny", user));
+
+		for (int i = 1; i <= 5; i++) {
+			commentRepository.save(new Comment("댓글" + i, user, todo));
+		}
+		// 커서 값은 DB 에 저장된(정밀도가 잘린) 작성일이어야 하므로 영속성 컨텍스트를 비운다
+		entityManager.flush();
+		entityManager.clear();
+	}
+
+	@Test
+	@DisplayName("커서 이후의 댓글을 (작성일, id) 오름차순으로 중복 없이 이어서 조회할 수 있다.")
+	public void successFindSliceByTodoIdAfter() {
+		//when
+		List<CommentResponse> first = commentRepository.findFirstSliceByTodoId(todo.getId(), Limit.of(2));
+		CommentResponse last = first.get(first.size() - 1);
+		List<CommentResponse> next = commentRepository.findSliceByTodoIdAfter(
+			todo.getId(), last.getCreatedAt(), last.getId(), Limit.of(10));
+
+		//then
+		assertThat(first).extracting(CommentResponse::getContents).containsExactly("댓글1", "댓글2");
+		assertThat(next).extracting(CommentResponse::getContents).containsExactly("댓글3", "댓글4", "댓글5");
+	}
+
+	@Test
+	@DisplayName("댓글을 추가하면 댓글 목록의 버전 집계 값이 바뀐다.")
+	public void versionChangesWhenCommentAdded() {
+		//given
+		CollectionVersion before = commentRepository.findVersionByTodoId(todo.getId());
+
+		//when
+		User user = userRepository.findAll().get(0);
+		commentRepository.save(new Comment("댓글6", user, todoRepository.findById(todo.getId()).orElseThrow()));
+		entityManager.flush();
+		CollectionVersion after = commentRepository.findVersionByTodoId(todo.getId());
+
+		//then
+		assertThat(before.count()).isEqualTo(5L);
+		assertThat(after.count()).isEqualTo(6L);
+		assertThat(after.maxId()).isGreaterThan(before.maxId());
+		assertThat(after).isNotEqualTo(before);
+	}
+
+	@Test
+	@DisplayName("댓글을 작성 순서대로 스트리밍 조회할 수 있다.")
+	public void successStreamResponsesByTodoId() {
+		//when
+		List<String> contents = new ArrayList<>();
+		try (Stream<CommentResponse> comments = commentRepository.streamResponsesByTodoId(todo.getId())) {
+			comments.forEach(comment -> contents.add(comment.getContents()));
+		}
+
+		//then
+		assertThat(contents).containsExactly("댓글1", "댓글2", "댓글3", "댓글4", "댓글5");
+	}
+}
@@ -2,7 +2,10 @@ package org.example.expert.domain.comment.service;
 
 import static org.mockito.Mockito.*;
 
+import java.util.Optional;
+
 import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.todo.repository.TodoRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,19 +18,41 @@ class CommentAdminServiceTest {
 	@Mock
 	private CommentRepository commentRepository;
 
+	@Mock
+	private TodoRepository todoRepository;
+
 	@InjectMocks
 	private CommentAdminService commentAdminService;
 
 	@Test
-	@DisplayName("admin는 성공적으로 댓글을 삭제한다.")
+	@DisplayName("admin는 성공적으로 댓글을 삭제하고 Todo 의 댓글 수를 줄인다.")
 	public void successDeleteAdminComment() {
 	    //given
 		long commentId = 1L;
+		long todoId = 10L;
+		when(commentRepository.findTodoIdById(commentId)).thenReturn(Optional.of(todoId));
+		when(commentRepository.deleteOneById(commentId)).thenReturn(1);
+
+		//when
+		commentAdminService.deleteComment(commentId);
+
+		//then
+		verify(commentRepository, times(1)).deleteOneById(commentId);
+		verify(todoRepository, times(1)).addCommentCount(todoId, -1);
+	}
+
+	@Test
+	@DisplayName("이미 삭제된 댓글이면 댓글 수를 줄이지 않는다.")
+	public void deleteAlreadyDeletedComment() {
+	    //given
+		long commentId = 1L;
+		when(commentRepository.findTodoIdById(commentId)).thenReturn(Optional.of(10L));
+		when(commentRepository.deleteOneById(commentId)).thenReturn(0);
 
 		//when
 		commentAdminService.deleteComment(commentId);
 
 		//then
-		verify(commentRepository, times(1)).deleteById(commentId);
+		verify(todoRepository, never()).addCommentCount(anyLong(), anyLong());
 	}
-}
\ No newline at end of file
+}
@@ -3,12 +3,15 @@ package org.example.expert.domain.comment.service;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
+import org.example.expert.domain.comment.dto.response.CommentSliceResponse;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.KeysetCursor;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.junit.jupiter.api.DisplayName;
@@ -17,7 +20,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -79,15 +84,14 @@ class CommentServiceTest {
     public void successGetTodoComments() {
         //given
         long todoId = 1L;
-        User user1 = new User("test1@test.com", "1234", UserRole.USER);
-        Todo todo = new Todo("제목1", "내용1", "Sunny", user1);
+        UserResponse user1 = new UserResponse(1L, "test1@test.com");
 
-        Comment comment1 = new Comment("댓글1", user1, todo);
-        Comment comment2 = new Comment("댓글2", user1, todo);
+        CommentResponse comment1 = new CommentResponse(1L, "댓글1", user1);
+        CommentResponse comment2 = new CommentResponse(2L, "댓글2", user1);
 
-        List<Comment> commentList = List.of(comment1, comment2);
+        List<CommentResponse> commentList = List.of(comment1, comment2);
 
-        given(commentRepository.findByTodoIdWithUser(todoId)).willReturn(commentList);
+        given(commentRepository.findResponsesByTodoId(todoId)).willReturn(commentList);
 
         //when
         List<CommentResponse> result = commentService.getComments(todoId);
@@ -97,4 +101,28 @@ class CommentServiceTest {
         assertEquals("댓글1", result.get(0).getContents());
         assertEquals("댓글2", result.get(1).getContents());
     }
+
+    @Test
+    @DisplayName("커서 조회 시 size 보다 많이 조회되면 마지막 댓글의 (작성일, id) 로 다음 커서를 만든다.")
+    public void successGetCommentsByCursor() {
+        //given
+        long todoId = 1L;
+        UserResponse user = new UserResponse(1L, "test1@test.com");
+        LocalDateTime createdAt = LocalDateTime.of(2024, 9, 1, 12, 0);
+
+        List<CommentResponse> comments = List.of(
+                new CommentResponse(1L, "댓글1", user, createdAt),
+                new CommentResponse(2L, "댓글2", user, createdAt),
+                new CommentResponse(3L, "댓글3", user, createdAt)
+        );
+        given(commentRepository.findFirstSliceByTodoId(todoId, Limit.of(3))).willReturn(comments);
+
+        //when
+        CommentSliceResponse result = commentService.getCommentsByCursor(todoId, "", 2);
+
+        //then
+        assertEquals(2, result.getContent().size());
+        assertTrue(result.isHasNext());
+        assertEquals(new KeysetCursor(createdAt, 2L), KeysetCursor.decode(result.getNextCursor()));
+    }
 }
@@ -1,125 +1,192 @@
 package org.example.expert.domain.manager.service;
 
+import org.example.expert.config.PersistenceConfig;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.entity.Manager;
-import org.example.expert.domain.manager.repository.ManagerRepository;
 import org.example.expert.domain.todo.entity.Todo;
-import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
-import org.example.expert.domain.user.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
-import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
 
 import java.util.List;
-import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.BDDMockito.given;
 
-@ExtendWith(MockitoExtension.class)
+// 권한/존재 확인이 한 번의 조회로 끝나는지 Hibernate 통계의 실행된 SQL 수로 확인한다
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({PersistenceConfig.class, ManagerService.class})
 class ManagerServiceTest {
 
-    @Mock
-    private ManagerRepository managerRepository;
-    @Mock
-    private UserRepository userRepository;
-    @Mock
-    private TodoRepository todoRepository;
-    @InjectMocks
+    @Autowired
     private ManagerService managerService;
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+    private User owner;
+    private User other;
+    private Todo todo;
+
+    @BeforeEach
+    void setUp() {
+        owner = entityManager.persist(new User("a@a.com", "password", UserRole.USER));
+        other = entityManager.persist(new User("b@b.com", "password", UserRole.USER));
+        todo = entityManager.persist(new Todo("Title", "Contents", "Sunny", owner));
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    private AuthUser authUserOf(User user) {
+        return new AuthUser(user.getId(), user.getEmail(), UserRole.USER);
+    }
+
+    private long managerCountOf(Long todoId) {
+        entityManager.clear();
+        return entityManager.find(Todo.class, todoId).getManagerCount();
+    }
 
     @Test
     public void manager_목록_조회_시_Todo가_없다면_예외가_발생한다() {
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> managerService.getManagers(Long.MAX_VALUE));
+        assertEquals("Todo not found", exception.getMessage());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 작성자가_아닌_유저가_담당자를_등록하면_예외가_발생한다() {
         // given
-        long todoId = 1L;
-        given(todoRepository.findById(todoId)).willReturn(Optional.empty());
+        ManagerSaveRequest managerSaveRequest = new ManagerSaveRequest(owner.getId());
 
         // when & then
-        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> managerService.getManagers(todoId));
-        assertEquals("Todo not found", exception.getMessage());
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+            managerService.saveManager(authUserOf(other), todo.getId(), managerSaveRequest)
+        );
+
+        assertEquals("일정을 생성한 유저만 담당자를 지정할 수 있습니다.", exception.getMessage());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
     }
 
     @Test
-    void todo의_user가_null인_경우_예외가_발생한다() {
+    void 등록하려는_담당자_유저가_없으면_예외가_발생한다() {
         // given
-        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
-        long todoId = 1L;
-        long managerUserId = 2L;
+        ManagerSaveRequest managerSaveRequest = new ManagerSaveRequest(Long.MAX_VALUE);
+
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+            managerService.saveManager(authUserOf(owner), todo.getId(), managerSaveRequest)
+        );
 
-        Todo todo = new Todo();
-        ReflectionTestUtils.setField(todo, "user", null);
+        assertEquals("등록하려고 하는 담당자 유저가 존재하지 않습니다.", exception.getMessage());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
 
-        ManagerSaveRequest managerSaveRequest = new ManagerSaveRequest(managerUserId);
+    @Test
+    void 이미_담당자로_등록된_유저는_다시_등록할_수_없다() {
+        // given
+        entityManager.persist(new Manager(entityManager.find(User.class, other.getId()), entityManager.find(Todo.class, todo.getId())));
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
 
-        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
+        ManagerSaveRequest managerSaveRequest = new ManagerSaveRequest(other.getId());
 
         // when & then
         InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
-            managerService.saveManager(authUser, todoId, managerSaveRequest)
+            managerService.saveManager(authUserOf(owner), todo.getId(), managerSaveRequest)
         );
 
-        assertEquals("일정을 생성한 유저만 담당자를 지정할 수 있습니다.", exception.getMessage());
+        assertEquals("이미 담당자로 등록된 유저입니다.", exception.getMessage());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
     }
 
     @Test // 테스트코드 샘플
     public void manager_목록_조회에_성공한다() {
-        // given
-        long todoId = 1L;
-        User user = new User("user1@example.com", "password", UserRole.USER);
-        Todo todo = new Todo("Title", "Contents", "Sunny", user);
-        ReflectionTestUtils.setField(todo, "id", todoId);
+        // when
+        List<ManagerResponse> managerResponses = managerService.getManagers(todo.getId());
 
-        Manager mockManager = new Manager(todo.getUser(), todo);
-        List<Manager> managerList = List.of(mockManager);
+        // then
+        assertEquals(1, managerResponses.size());
+        assertEquals(owner.getEmail(), managerResponses.get(0).getUser().getEmail());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
 
-        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
-        given(managerRepository.findByTodoIdWithUser(todoId)).willReturn(managerList);
+    @Test
+    void 담당자가_없는_Todo는_빈_목록을_반환한다() {
+        // given
+        entityManager.getEntityManager().createQuery("DELETE FROM Manager m WHERE m.todo.id = :todoId")
+            .setParameter("todoId", todo.getId())
+            .executeUpdate();
+        statistics.clear();
 
         // when
-        List<ManagerResponse> managerResponses = managerService.getManagers(todoId);
+        List<ManagerResponse> managerResponses = managerService.getManagers(todo.getId());
 
         // then
-        assertEquals(1, managerResponses.size());
-        assertEquals(mockManager.getId(), managerResponses.get(0).getId());
-        assertEquals(mockManager.getUser().getEmail(), managerResponses.get(0).getUser().getEmail());
+        assertThat(managerResponses).isEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
     }
 
     @Test // 테스트코드 샘플
     void todo가_정상적으로_등록된다() {
         // given
-        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
-        User user = User.fromAuthUser(authUser);  // 일정을 만든 유저
-
-        long todoId = 1L;
-        Todo todo = new Todo("Test Title", "Test Contents", "Sunny", user);
+        ManagerSaveRequest managerSaveRequest = new ManagerSaveRequest(other.getId()); // request dto 생성
 
-        long managerUserId = 2L;
-        User managerUser = new User("b@b.com", "password", UserRole.USER);  // 매니저로 등록할 유저
-        ReflectionTestUtils.setField(managerUser, "id", managerUserId);
+        // when
+        ManagerSaveResponse response = managerService.saveManager(authUserOf(owner), todo.getId(), managerSaveRequest);
+        entityManager.flush();
 
-        ManagerSaveRequest managerSaveRequest = new ManagerSaveRequest(managerUserId); // request dto 생성
+        // then
+        assertNotNull(response);
+        assertEquals(other.getId(), response.getUser().getId());
+        assertEquals(other.getEmail(), response.getUser().getEmail());
+        // 검증 조회, 담당자 수 UPDATE, 담당자 INSERT 만 실행되고 Todo/User 엔티티는 로딩하지 않는다
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertEquals(2, managerCountOf(todo.getId()));
+    }
 
-        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
-        given(userRepository.findById(managerUserId)).willReturn(Optional.of(managerUser));
-        given(managerRepository.save(any(Manager.class))).willAnswer(invocation -> invocation.getArgument(0));
+    @Test
+    void 담당자_삭제는_DELETE_한_번으로_처리된다() {
+        // given
+        Long managerId = managerService.getManagers(todo.getId()).get(0).getId();
+        statistics.clear();
 
         // when
-        ManagerSaveResponse response = managerService.saveManager(authUser, todoId, managerSaveRequest);
+        managerService.deleteManager(owner.getId(), todo.getId(), managerId);
 
         // then
-        assertNotNull(response);
-        assertEquals(managerUser.getId(), response.getUser().getId());
-        assertEquals(managerUser.getEmail(), response.getUser().getEmail());
+        // 삭제와 담당자 수 UPDATE 만 실행된다
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(managerService.getManagers(todo.getId())).isEmpty();
+        assertEquals(0, managerCountOf(todo.getId()));
+    }
+
+    @Test
+    void 일정_작성자가_아니면_담당자를_삭제할_수_없다() {
+        // given
+        Long managerId = managerService.getManagers(todo.getId()).get(0).getId();
+
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+            managerService.deleteManager(other.getId(), todo.getId(), managerId)
+        );
+
+        assertEquals("해당 일정을 만든 유저가 유효하지 않습니다.", exception.getMessage());
     }
 }
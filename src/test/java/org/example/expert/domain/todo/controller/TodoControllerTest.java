@@ -7,13 +7,27 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 import org.example.expert.config.AuthUserArgumentResolver;
+import org.example.expert.config.ErrorResponseBodies;
+import org.example.expert.config.IoExecutors;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.ResourceVersion;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.request.TodoBulkSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoFilter;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBulkSaveItemResponse;
+import org.example.expert.domain.todo.dto.response.TodoBulkSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoPageResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoSliceResponse;
+import org.example.expert.domain.todo.enums.TodoCountMode;
 import org.example.expert.domain.todo.service.TodoService;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.enums.UserRole;
@@ -24,15 +38,19 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 @WebMvcTest(TodoController.class)
 @AutoConfigureMockMvc
+@Import({IoExecutors.class, ErrorResponseBodies.class})
 class TodoControllerTest {
 
 	@Autowired
@@ -91,13 +109,13 @@ class TodoControllerTest {
 
 		UserResponse userResponse = new UserResponse(1L, "test@test.com");
 
-		TodoResponse todoResponse1 = new TodoResponse(1L, "제목1", "내용1", "Sunny", userResponse, now(), now());
-		TodoResponse todoResponse2 = new TodoResponse(2L, "제목2", "내용2", "Sunny", userResponse, now(), now());
+		TodoResponse todoResponse1 = new TodoResponse(1L, "제목1", "내용1", "Sunny", userResponse, now(), now(), 0, 0);
+		TodoResponse todoResponse2 = new TodoResponse(2L, "제목2", "내용2", "Sunny", userResponse, now(), now(), 0, 0);
 
 		List<TodoResponse> content = List.of(todoResponse1, todoResponse2);
-		PageImpl<TodoResponse> todoPage = new PageImpl<>(content, PageRequest.of(page, size), content.size());
+		TodoPageResponse todoPage = TodoPageResponse.exact(new PageImpl<>(content, PageRequest.of(page - 1, size), content.size()));
 
-		given(todoService.getTodos(page, size)).willReturn(todoPage);
+		given(todoService.getTodos(page, size, TodoCountMode.EXACT, TodoFilter.NONE)).willReturn(todoPage);
 
 		//when && then
 		mockMvc.perform(get("/todos")
@@ -110,7 +128,34 @@ class TodoControllerTest {
 			.andExpect(jsonPath("$.content[0].contents").value(todoResponse1.getContents()))
 			.andExpect(jsonPath("$.content[0].weather").value(todoResponse1.getWeather()))
 			.andExpect(jsonPath("$.content[0].user.id").value(todoResponse1.getUser().getId()))
-			.andExpect(jsonPath("$.content[0].user.email").value(todoResponse1.getUser().getEmail()));
+			.andExpect(jsonPath("$.content[0].user.email").value(todoResponse1.getUser().getEmail()))
+			// 기존 Page 응답과 같은 형태로 page.number 는 0 부터 센다
+			.andExpect(jsonPath("$.page.number").value(0))
+			.andExpect(jsonPath("$.page.size").value(size))
+			.andExpect(jsonPath("$.page.totalElements").value(content.size()))
+			.andExpect(jsonPath("$.page.totalPages").value(1))
+			.andExpect(jsonPath("$.hasNext").doesNotExist());
+	}
+
+	@Test
+	@DisplayName("count=none 이면 page.totalElements 를 null 로 두고 hasNext 를 덧붙여 반환한다.")
+	public void successFindAllUserTodoWithoutCount() throws Exception {
+	    //given
+		UserResponse userResponse = new UserResponse(1L, "test@test.com");
+		TodoResponse todoResponse = new TodoResponse(1L, "제목1", "내용1", "Sunny", userResponse, now(), now(), 0, 0);
+		TodoPageResponse todoPage = TodoPageResponse.withoutCount(new SliceImpl<>(List.of(todoResponse), PageRequest.of(0, 10), true));
+
+		given(todoService.getTodos(1, 10, TodoCountMode.NONE, TodoFilter.NONE)).willReturn(todoPage);
+
+		//when && then
+		mockMvc.perform(get("/todos")
+			.param("count", "none")
+			.contentType(MediaType.APPLICATION_JSON))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.content[0].id").value(todoResponse.getId()))
+			.andExpect(jsonPath("$.page.number").value(0))
+			.andExpect(jsonPath("$.page.totalElements").doesNotExist())
+			.andExpect(jsonPath("$.hasNext").value(true));
 	}
 
 	@Test
@@ -121,7 +166,7 @@ class TodoControllerTest {
 		long todoId = 1L;
 
 		UserResponse userResponse = new UserResponse(1L, "test@test.com");
-		TodoResponse todoResponse = new TodoResponse(1L, "제목1", "내용1", "Sunny", userResponse, now(), now());
+		TodoResponse todoResponse = new TodoResponse(1L, "제목1", "내용1", "Sunny", userResponse, now(), now(), 0, 0);
 
 		given(todoService.getTodo(todoResponse.getId())).willReturn(todoResponse);
 
@@ -136,4 +181,205 @@ class TodoControllerTest {
 			.andExpect(jsonPath("$.user.id").value(todoResponse.getUser().getId()))
 			.andExpect(jsonPath("$.user.email").value(todoResponse.getUser().getEmail()));
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("단건 조회 응답에는 Todo 버전으로 만든 ETag 가 포함된다.")
+	public void findTodoReturnsETag() throws Exception {
+	    //given
+		long todoId = 1L;
+		LocalDateTime modifiedAt = LocalDateTime.of(2024, 9, 1, 12, 0);
+		ResourceVersion version = ResourceVersion.of("todo", modifiedAt);
+
+		UserResponse userResponse = new UserResponse(1L, "test@test.com");
+		TodoResponse todoResponse = new TodoResponse(todoId, "제목1", "내용1", "Sunny", userResponse, modifiedAt, modifiedAt, 0, 0);
+
+		given(todoService.getTodoVersion(todoId)).willReturn(Optional.of(version));
+		given(todoService.getTodo(todoId)).willReturn(todoResponse);
+
+	    //when && then
+		mockMvc.perform(get("/todos/{todoId}", todoId))
+			.andExpect(status().isOk())
+			.andExpect(header().string("ETag", version.eTag()))
+			.andExpect(jsonPath("$.id").value(todoId));
+	}
+
+	@Test
+	@DisplayName("If-None-Match 가 현재 ETag 와 같으면 Todo 를 조회하지 않고 304 를 반환한다.")
+	public void findTodoNotModified() throws Exception {
+	    //given
+		long todoId = 1L;
+		ResourceVersion version = ResourceVersion.of("todo", LocalDateTime.of(2024, 9, 1, 12, 0));
+
+		given(todoService.getTodoVersion(todoId)).willReturn(Optional.of(version));
+
+	    //when && then
+		mockMvc.perform(get("/todos/{todoId}", todoId).header("If-None-Match", version.eTag()))
+			.andExpect(status().isNotModified())
+			.andExpect(header().string("ETag", version.eTag()))
+			.andExpect(content().string(""));
+
+		verify(todoService, never()).getTodo(anyLong());
+	}
+
+	@Test
+	@DisplayName("async=true 로 단건 조회하면 요청 스레드를 반환한 뒤 db 풀에서 조회한 Todo 를 응답한다.")
+	public void successFindTodoAsync() throws Exception {
+	    //given
+		long todoId = 1L;
+
+		UserResponse userResponse = new UserResponse(1L, "test@test.com");
+		TodoResponse todoResponse = new TodoResponse(todoId, "제목1", "내용1", "Sunny", userResponse, now(), now(), 0, 0);
+
+		given(todoService.getTodo(todoId)).willAnswer(invocation -> {
+			assertTrue(Thread.currentThread().getName().startsWith("async-db-"));
+			return todoResponse;
+		});
+
+		//when
+		MvcResult result = mockMvc.perform(get("/todos/{todoId}", todoId).param("async", "true"))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+
+		//then
+		mockMvc.perform(asyncDispatch(result))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.id").value(todoId))
+			.andExpect(jsonPath("$.title").value("제목1"));
+	}
+
+	@Test
+	@DisplayName("async=true 조회 중 발생한 예외는 동기 조회와 같은 에러 응답으로 변환된다.")
+	public void findTodoAsyncPropagatesInvalidRequest() throws Exception {
+	    //given
+		given(todoService.getTodo(2L)).willThrow(new InvalidRequestException("Todo not found"));
+
+		//when
+		MvcResult result = mockMvc.perform(get("/todos/{todoId}", 2L).param("async", "true"))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+
+		//then
+		mockMvc.perform(asyncDispatch(result))
+			.andExpect(status().isBadRequest())
+			.andExpect(jsonPath("$.message").value("Todo not found"));
+	}
+
+	@Test
+	@DisplayName("cursor 파라미터로 조회하면 Todo 목록과 다음 커서를 반환한다.")
+	public void successFindTodosByCursor() throws Exception {
+	    //given
+		UserResponse userResponse = new UserResponse(1L, "test@test.com");
+		TodoResponse todoResponse = new TodoResponse(1L, "제목1", "내용1", "Sunny", userResponse, now(), now(), 0, 0);
+		TodoSliceResponse sliceResponse = new TodoSliceResponse(List.of(todoResponse), true, "next-cursor");
+
+		given(todoService.getTodosByCursor("", 1)).willReturn(sliceResponse);
+
+		//when && then
+		mockMvc.perform(get("/todos")
+				.param("cursor", "")
+				.param("size", "1")
+				.contentType(MediaType.APPLICATION_JSON))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.content[0].id").value(todoResponse.getId()))
+			.andExpect(jsonPath("$.hasNext").value(true))
+			.andExpect(jsonPath("$.nextCursor").value("next-cursor"));
+	}
+
+	@Test
+	@DisplayName("CSV 형식으로 내보내면 헤더와 함께 Todo 를 한 줄씩 기록하고 특수문자가 있는 값은 따옴표로 감싼다.")
+	public void successExportTodosAsCsv() throws Exception {
+	    //given
+		UserResponse userResponse = new UserResponse(1L, "test@test.com");
+		LocalDateTime createdAt = LocalDateTime.of(2024, 9, 1, 12, 0);
+
+		willAnswer(invocation -> {
+			Consumer<TodoResponse> consumer = invocation.getArgument(0);
+			consumer.accept(new TodoResponse(1L, "제목1", "내용, \"인용\"", "Sunny", userResponse, createdAt, createdAt, 0, 0));
+			return null;
+		}).given(todoService).exportTodos(any());
+
+		//when
+		MvcResult result = mockMvc.perform(get("/todos/export").param("format", "csv"))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+
+		//then
+		mockMvc.perform(asyncDispatch(result))
+			.andExpect(status().isOk())
+			.andExpect(content().contentType("text/csv;charset=UTF-8"))
+			.andExpect(content().string(
+				"id,title,contents,weather,userId,email,createdAt,modifiedAt\n" +
+				"1,제목1,\"내용, \"\"인용\"\"\",Sunny,1,test@test.com,2024-09-01T12:00,2024-09-01T12:00\n"));
+	}
+
+	@Test
+	@DisplayName("일괄 등록 요청이 허용 건수를 넘으면 400 을 반환한다.")
+	public void saveTodosOverMaxSizeIsBadRequest() throws Exception {
+	    //given
+		List<TodoSaveRequest> todos = new ArrayList<>();
+		for (int i = 0; i <= TodoBulkSaveRequest.MAX_SIZE; i++) {
+			todos.add(new TodoSaveRequest("제목" + i, "내용" + i));
+		}
+
+		//when && then
+		mockMvc.perform(post("/todos/bulk")
+			.contentType(MediaType.APPLICATION_JSON)
+			.content(objectMapper.writeValueAsString(new TodoBulkSaveRequest(todos))))
+			.andExpect(status().isBadRequest());
+		verify(todoService, never()).saveTodos(any(), any());
+	}
+
+	@Test
+	@DisplayName("일괄 등록 시 항목별 저장 결과를 반환한다.")
+	public void successSaveTodos() throws Exception {
+	    //given
+		TodoBulkSaveRequest todoBulkSaveRequest = new TodoBulkSaveRequest(List.of(
+			new TodoSaveRequest("제목1", "내용1"),
+			new TodoSaveRequest("", "내용2")));
+		TodoBulkSaveResponse todoBulkSaveResponse = new TodoBulkSaveResponse("Sunny", 1, 1, List.of(
+			TodoBulkSaveItemResponse.saved(0, 10L),
+			TodoBulkSaveItemResponse.failed(1, "제목과 내용은 필수입니다.")));
+
+		given(todoService.saveTodos(any(AuthUser.class), any(TodoBulkSaveRequest.class))).willReturn(todoBulkSaveResponse);
+
+		//when && then
+		mockMvc.perform(post("/todos/bulk")
+			.contentType(MediaType.APPLICATION_JSON)
+			.content(objectMapper.writeValueAsString(todoBulkSaveRequest)))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.savedCount").value(1))
+			.andExpect(jsonPath("$.failedCount").value(1))
+			.andExpect(jsonPath("$.results[0].id").value(10))
+			.andExpect(jsonPath("$.results[1].index").value(1))
+			.andExpect(jsonPath("$.results[1].errorMessage").value("제목과 내용은 필수입니다."));
+	}
+
+	@Test
+	@DisplayName("비동기 삭제를 요청하면 202 를, 즉시 삭제는 200 을 반환한다.")
+	public void successDeleteTodo() throws Exception {
+	    //when && then
+		mockMvc.perform(delete("/todos/{todoId}", 1L).param("async", "true"))
+			.andExpect(status().isAccepted());
+		mockMvc.perform(delete("/todos/{todoId}", 2L))
+			.andExpect(status().isOk());
+
+		verify(todoService).deleteTodo(any(AuthUser.class), eq(1L), eq(true));
+		verify(todoService).deleteTodo(any(AuthUser.class), eq(2L), eq(false));
+	}
+
+	@Test
+	@DisplayName("검색어로 Todo 를 검색하면 검색 결과 목록을 반환한다.")
+	public void successSearchTodos() throws Exception {
+	    //given
+		UserResponse userResponse = new UserResponse(1L, "test@test.com");
+		TodoResponse todoResponse = new TodoResponse(1L, "Spring 세미나", "내용", "Sunny", userResponse, now(), now(), 0, 0);
+
+		given(todoService.searchTodos("spr*", 20)).willReturn(List.of(todoResponse));
+
+		//when && then
+		mockMvc.perform(get("/todos/search").param("q", "spr*"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$[0].id").value(1))
+			.andExpect(jsonPath("$[0].title").value("Spring 세미나"));
+	}
+}
@@ -0,0 +1,125 @@
+package org.example.expert.domain.todo.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.todo.dto.request.TodoFilter;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 조건 조합별로 Hibernate 가 실제로 실행한 SQL 을 가져와 H2 의 EXPLAIN 으로 실행 계획을 확인한다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+	+ "org.example.expert.domain.todo.repository.TodoQueryPlanTest$SqlCaptor")
+@Import(PersistenceConfig.class)
+class TodoQueryPlanTest {
+
+	private static final LocalDateTime FROM = LocalDateTime.of(2024, 1, 1, 0, 0);
+	private static final LocalDateTime TO = LocalDateTime.of(2024, 2, 1, 0, 0);
+
+	@Autowired
+	private TodoRepository todoRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	public static class SqlCaptor implements StatementInspector {
+
+		private static final List<String> statements = new ArrayList<>();
+
+		@Override
+		public String inspect(String sql) {
+			statements.add(sql);
+			return sql;
+		}
+	}
+
+	// H2 의 ANALYZE 는 트랜잭션을 커밋하므로 데이터는 이 테스트 클래스의 컨텍스트(DB)에서 한 번만 넣는다
+	@BeforeEach
+	void setUp() {
+		SqlCaptor.statements.clear();
+		if (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM todos", Long.class) > 0) {
+			return;
+		}
+
+		jdbcTemplate.update("INSERT INTO users (id, email, password, user_role, created_at, modified_at) " +
+			"SELECT X, 'user' || X || '@test.com', '1234', 'USER', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP " +
+			"FROM SYSTEM_RANGE(1, 100)");
+		jdbcTemplate.update("INSERT INTO todos (id, title, contents, weather, user_id, created_at, modified_at) " +
+			"SELECT X, 'title' || X, 'contents' || X, CASEWHEN(MOD(X, 4) = 0, 'Sunny', 'Rainy'), MOD(X, 100) + 1, " +
+			"TIMESTAMP '2023-06-01 00:00:00', DATEADD('MINUTE', X * 10, TIMESTAMP '2023-06-01 00:00:00') " +
+			"FROM SYSTEM_RANGE(1, 10000)");
+		jdbcTemplate.execute("ANALYZE");
+	}
+
+	static Stream<TodoFilter> filters() {
+		List<TodoFilter> filters = new ArrayList<>();
+		for (int mask = 1; mask < 16; mask++) {
+			filters.add(new TodoFilter(
+				(mask & 1) != 0 ? "Sunny" : null,
+				(mask & 2) != 0 ? FROM : null,
+				(mask & 4) != 0 ? TO : null,
+				(mask & 8) != 0 ? 7L : null));
+		}
+		return filters.stream();
+	}
+
+	private static String expectedIndex(TodoFilter filter) {
+		if (filter.userId() != null) {
+			return "IDX_TODOS_USER_ID_MODIFIED_AT";
+		}
+		if (filter.weather() != null) {
+			return "IDX_TODOS_WEATHER_MODIFIED_AT";
+		}
+		return "IDX_TODOS_MODIFIED_AT_ID";
+	}
+
+	private List<String> explainCapturedStatements(TodoFilter filter) {
+		List<String> plans = new ArrayList<>();
+		for (String sql : SqlCaptor.statements) {
+			List<Object> parameters = new ArrayList<>();
+			if (filter.userId() != null) parameters.add(filter.userId());
+			if (filter.weather() != null) parameters.add(filter.weather());
+			if (filter.from() != null) parameters.add(filter.from());
+			if (filter.to() != null) parameters.add(filter.to());
+			// 남는 자리는 limit 파라미터
+			while (parameters.size() < sql.chars().filter(c -> c == '?').count()) {
+				parameters.add(10);
+			}
+			plans.add(jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, parameters.toArray()));
+		}
+		return plans;
+	}
+
+	@ParameterizedTest
+	@MethodSource("filters")
+	@DisplayName("목록 조회와 COUNT 쿼리는 모든 조건 조합에서 전체 테이블을 스캔하지 않고 조건에 맞는 인덱스를 사용한다.")
+	public void filteredQueriesUseIndexRangeScan(TodoFilter filter) {
+	    //when
+		todoRepository.findTodoResponses(filter, PageRequest.of(0, 10));
+
+		//then
+		List<String> plans = explainCapturedStatements(filter);
+		assertThat(plans).hasSize(2);
+		for (String plan : plans) {
+			assertThat(plan)
+				.as(plan)
+				.doesNotContain("TODOS.tableScan")
+				.contains(expectedIndex(filter));
+		}
+	}
+}
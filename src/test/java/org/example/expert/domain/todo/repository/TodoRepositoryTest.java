@@ -3,8 +3,13 @@ package org.example.expert.domain.todo.repository;
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
@@ -13,10 +18,14 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 
 @DataJpaTest
+@Import(PersistenceConfig.class)
 class TodoRepositoryTest {
 
 	@Autowired
@@ -25,6 +34,9 @@ class TodoRepositoryTest {
 	@Autowired
 	private UserRepository userRepository;
 
+	@Autowired
+	private TestEntityManager entityManager;
+
 	@Test
 	@DisplayName("수정일 기준 내림차순으로 Todo 목록을 조회할 수 있다.")
 	public void successFindAllTodoAndModifiedAtDesc() {
@@ -96,4 +108,57 @@ class TodoRepositoryTest {
 		assertEquals(findTodo.getId(), todo.getId());
 		assertEquals(findTodo.getUser().getId(), user.getId());
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("커서 이후의 Todo 를 (수정일, id) 내림차순으로 중복 없이 이어서 조회할 수 있다.")
+	public void successFindSliceAfterCursor() {
+	    //given
+		User user = new User("test1@test.com", "1234", UserRole.USER);
+		userRepository.save(user);
+
+		for (int i = 1; i <= 5; i++) {
+			todoRepository.save(new Todo("제목" + i, "내용" + i, "Sunny", user));
+		}
+		// 커서 값은 DB 에 저장된(정밀도가 잘린) 수정일이어야 하므로 영속성 컨텍스트를 비운다
+		entityManager.flush();
+		entityManager.clear();
+
+		//when
+		List<TodoResponse> first = todoRepository.findFirstSlice(Limit.of(2));
+		TodoResponse last = first.get(first.size() - 1);
+		List<TodoResponse> next = todoRepository.findSliceAfter(last.getModifiedAt(), last.getId(), Limit.of(10));
+
+		//then
+		assertThat(first).hasSize(2);
+		assertThat(next).hasSize(3);
+		assertThat(next).extracting(TodoResponse::getId)
+			.doesNotContainAnyElementsOf(first.stream().map(TodoResponse::getId).toList());
+		assertThat(next).allSatisfy(todo -> assertEquals(user.getEmail(), todo.getUser().getEmail()));
+		assertThat(next).allSatisfy(todo ->
+			assertThat(todo.getModifiedAt().isBefore(last.getModifiedAt())
+				|| (todo.getModifiedAt().isEqual(last.getModifiedAt()) && todo.getId() < last.getId())).isTrue());
+	}
+
+	@Test
+	@DisplayName("내보내기용 스트림은 모든 Todo 를 작성자와 함께 id 순서대로 조회한다.")
+	public void successStreamAllForExport() {
+	    //given
+		User user = new User("test1@test.com", "1234", UserRole.USER);
+		userRepository.save(user);
+
+		for (int i = 1; i <= 3; i++) {
+			todoRepository.save(new Todo("제목" + i, "내용" + i, "Sunny", user));
+		}
+		entityManager.flush();
+		entityManager.clear();
+
+		//when
+		List<String> exported = new ArrayList<>();
+		try (Stream<Todo> todos = todoRepository.streamAllForExport()) {
+			todos.forEach(todo -> exported.add(todo.getTitle() + "/" + todo.getUser().getEmail()));
+		}
+
+		//then
+		assertThat(exported).containsExactly("제목1/test1@test.com", "제목2/test1@test.com", "제목3/test1@test.com");
+	}
+}
@@ -0,0 +1,56 @@
+package org.example.expert.domain.todo.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest
+@Import({PersistenceConfig.class, TodoBulkWriter.class})
+class TodoBulkWriterTest {
+
+	@Autowired
+	private TodoBulkWriter todoBulkWriter;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Test
+	@DisplayName("청크 크기를 넘는 Todo 를 저장해도 모든 Todo 와 담당자가 저장되고 요청 순서대로 id 가 반환된다.")
+	public void successInsertTodosWithManagers() {
+	    //given
+		User user = entityManager.persistAndFlush(new User("test1@test.com", "1234", UserRole.USER));
+
+		int count = TodoBulkWriter.CHUNK_SIZE * 2 + 1;
+		List<Todo> todos = new ArrayList<>();
+		for (int i = 1; i <= count; i++) {
+			todos.add(new Todo("제목" + i, "내용" + i, "Sunny", user));
+		}
+
+		//when
+		List<Long> ids = todoBulkWriter.insert(todos);
+		entityManager.flush();
+		entityManager.clear();
+
+		//then
+		assertEquals(count, ids.size());
+		assertEquals(count, ids.stream().distinct().count());
+		assertEquals("제목1", entityManager.find(Todo.class, ids.get(0)).getTitle());
+		assertEquals("제목" + count, entityManager.find(Todo.class, ids.get(count - 1)).getTitle());
+		assertEquals((long)count, entityManager.getEntityManager()
+			.createQuery("SELECT COUNT(m) FROM Manager m WHERE m.user.id = :userId", Long.class)
+			.setParameter("userId", user.getId())
+			.getSingleResult());
+	}
+}
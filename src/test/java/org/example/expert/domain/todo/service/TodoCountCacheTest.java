@@ -0,0 +1,48 @@
+package org.example.expert.domain.todo.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TodoCountCacheTest {
+
+	@Mock
+	private TodoRepository todoRepository;
+
+	@Mock
+	private Clock clock;
+
+	@Test
+	@DisplayName("TTL 동안은 캐시된 건수를 반환하고, TTL 이 지나면 COUNT 쿼리로 다시 조회한다.")
+	public void countIsCachedForTtl() {
+		//given
+		TodoCountCache todoCountCache = new TodoCountCache(todoRepository, Duration.ofSeconds(5), clock);
+		given(todoRepository.count()).willReturn(10L, 12L);
+		AtomicLong now = new AtomicLong();
+		given(clock.millis()).willAnswer(invocation -> now.get());
+
+		//when
+		long first = todoCountCache.getCount();
+		now.set(4_999L);
+		long cached = todoCountCache.getCount();
+		now.set(5_000L);
+		long refreshed = todoCountCache.getCount();
+
+		//then
+		assertEquals(10L, first);
+		assertEquals(10L, cached);
+		assertEquals(12L, refreshed);
+		verify(todoRepository, times(2)).count();
+	}
+}
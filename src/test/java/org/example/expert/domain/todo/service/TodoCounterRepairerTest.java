@@ -0,0 +1,111 @@
+package org.example.expert.domain.todo.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest
+@Import({PersistenceConfig.class, TodoCounterRepairer.class})
+class TodoCounterRepairerTest {
+
+	@Autowired
+	private TodoCounterRepairer todoCounterRepairer;
+
+	@Autowired
+	private TodoRepository todoRepository;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	// 서비스를 거치지 않고 댓글을 저장해 카운터가 어긋난 Todo 를 만든다
+	private Todo saveTodoWithComments(User user, int comments) {
+		Todo todo = entityManager.persist(new Todo("제목", "내용", "Sunny", user));
+		for (int i = 1; i <= comments; i++) {
+			entityManager.persist(new Comment("댓글" + i, user, todo));
+		}
+		entityManager.flush();
+		entityManager.clear();
+		return todo;
+	}
+
+	@Test
+	@DisplayName("카운터 증감은 DB 값에 원자적으로 더해지고 삭제 표시된 Todo 는 바뀌지 않는다.")
+	public void successAddCounts() {
+	    //given
+		User user = entityManager.persist(new User("test1@test.com", "1234", UserRole.USER));
+		Todo todo = saveTodoWithComments(user, 0);
+
+		//when
+		todoRepository.addCommentCount(todo.getId(), 1);
+		todoRepository.addCommentCount(todo.getId(), 1);
+		todoRepository.addManagerCount(todo.getId(), -1);
+		entityManager.clear();
+
+		//then
+		Todo found = todoRepository.findById(todo.getId()).orElseThrow();
+		assertEquals(2, found.getCommentCount());
+		assertEquals(0, found.getManagerCount());
+		assertEquals(0, todoRepository.addCommentCount(Long.MAX_VALUE, 1));
+	}
+
+	@Test
+	@DisplayName("배치 크기보다 Todo 가 많아도 어긋난 카운터만 실제 댓글/담당자 수로 보정한다.")
+	public void successRepairDriftedCounters() {
+	    //given
+		User user = entityManager.persist(new User("test1@test.com", "1234", UserRole.USER));
+		for (int i = 0; i < TodoCounterRepairer.BATCH_SIZE; i++) {
+			saveTodoWithComments(user, 0);
+		}
+		Todo drifted = saveTodoWithComments(user, 3);
+
+		//when
+		int repaired = todoCounterRepairer.repair();
+		entityManager.clear();
+
+		//then
+		assertEquals(1, repaired);
+		Todo found = todoRepository.findById(drifted.getId()).orElseThrow();
+		assertEquals(3, found.getCommentCount());
+		assertEquals(1, found.getManagerCount());
+	}
+
+	@Test
+	@DisplayName("기동 시 보정은 켠 경우에만 기동 이벤트 스레드가 아닌 별도 스레드에서 실행한다.")
+	public void repairOnStartupRunsInBackgroundOnlyWhenEnabled() throws Exception {
+	    //given
+		TodoRepository repository = mock(TodoRepository.class);
+		CompletableFuture<String> repairThread = new CompletableFuture<>();
+		given(repository.findIdsAfter(0L, TodoCounterRepairer.BATCH_SIZE)).willAnswer(invocation -> {
+			repairThread.complete(Thread.currentThread().getName());
+			return List.of();
+		});
+		TodoCounterRepairer disabled = new TodoCounterRepairer(repository, false);
+		TodoCounterRepairer enabled = new TodoCounterRepairer(repository, true);
+
+		//when
+		disabled.repairOnStartup();
+		enabled.repairOnStartup();
+
+		//then
+		assertEquals("todo-counter-repair", repairThread.get(5, TimeUnit.SECONDS));
+		verify(repository, times(1)).findIdsAfter(0L, TodoCounterRepairer.BATCH_SIZE);
+		disabled.shutdown();
+		enabled.shutdown();
+	}
+}
@@ -0,0 +1,95 @@
+package org.example.expert.domain.todo.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest
+@Import({PersistenceConfig.class, TodoPurger.class})
+class TodoPurgerTest {
+
+	@Autowired
+	private TodoPurger todoPurger;
+
+	@Autowired
+	private TodoRepository todoRepository;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	private Todo saveTodoWithComments(User user, String title, int comments) {
+		Todo todo = entityManager.persist(new Todo(title, "내용", "Sunny", user));
+		for (int i = 1; i <= comments; i++) {
+			entityManager.persist(new Comment("댓글" + i, user, todo));
+		}
+		entityManager.flush();
+		entityManager.clear();
+		return todo;
+	}
+
+	private long count(String entity, Long todoId) {
+		return entityManager.getEntityManager()
+			.createQuery("SELECT COUNT(e) FROM " + entity + " e WHERE e.todo.id = :todoId", Long.class)
+			.setParameter("todoId", todoId)
+			.getSingleResult();
+	}
+
+	@Test
+	@DisplayName("청크 크기보다 댓글이 많은 Todo 도 댓글, 담당자, Todo 가 모두 삭제되고 다른 Todo 는 남는다.")
+	public void successPurgeTodoWithManyComments() {
+	    //given
+		User user = entityManager.persist(new User("test1@test.com", "1234", UserRole.USER));
+		Todo target = saveTodoWithComments(user, "삭제", TodoPurger.CHUNK_SIZE * 2 + 1);
+		Todo other = saveTodoWithComments(user, "유지", 3);
+
+		//when
+		todoPurger.purge(target.getId());
+		entityManager.clear();
+
+		//then
+		assertEquals(0, count("Comment", target.getId()));
+		assertEquals(0, count("Manager", target.getId()));
+		assertTrue(todoRepository.findById(target.getId()).isEmpty());
+
+		assertEquals(3, count("Comment", other.getId()));
+		assertEquals(1, count("Manager", other.getId()));
+		assertTrue(todoRepository.findById(other.getId()).isPresent());
+	}
+
+	@Test
+	@DisplayName("삭제 표시된 Todo 는 바로 조회되지 않고 백그라운드 정리에서 실제 행이 삭제된다.")
+	public void successPurgeSoftDeletedTodo() {
+	    //given
+		User user = entityManager.persist(new User("test1@test.com", "1234", UserRole.USER));
+		Todo todo = saveTodoWithComments(user, "삭제", 2);
+
+		//when
+		todoRepository.softDeleteById(todo.getId(), LocalDateTime.now());
+
+		//then
+		assertTrue(todoRepository.findById(todo.getId()).isEmpty());
+		assertEquals(0, todoRepository.count());
+		assertEquals(2, count("Comment", todo.getId()));
+
+		//when
+		todoPurger.purgeSoftDeleted();
+
+		//then
+		assertEquals(0, count("Comment", todo.getId()));
+		assertEquals(0, count("Manager", todo.getId()));
+		assertTrue(todoRepository.findSoftDeletedIds(10).isEmpty());
+	}
+}
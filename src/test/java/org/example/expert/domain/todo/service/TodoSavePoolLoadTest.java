@@ -0,0 +1,163 @@
+package org.example.expert.domain.todo.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.example.expert.client.StubWeatherServer;
+import org.example.expert.client.WeatherCache;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+/**
+ * 느린 날씨 API 를 흉내낸 로컬 서버로 일정 등록 부하를 주고 커넥션 풀 점유 상태를 비교한다.
+ * 날씨 캐시는 매 호출마다 외부 API 를 호출하도록 mock 처리해 최악의 경우를 재현한다.
+ */
+@SpringBootTest(properties = {
+	"spring.datasource.url=jdbc:h2:mem:todo-pool-load",
+	"spring.datasource.hikari.maximum-pool-size=4",
+	"spring.datasource.hikari.connection-timeout=250"
+})
+class TodoSavePoolLoadTest {
+
+	private static final int CONCURRENCY = 16;
+	private static final long WEATHER_DELAY_MILLIS = 800;
+
+	private static StubWeatherServer weatherServer;
+
+	@MockBean
+	private WeatherCache weatherCache;
+
+	@Autowired
+	private TodoService todoService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private AuthUser authUser;
+
+	@BeforeAll
+	static void startWeatherServer() throws Exception {
+		weatherServer = new StubWeatherServer();
+		weatherServer.delay(WEATHER_DELAY_MILLIS);
+	}
+
+	@AfterAll
+	static void stopWeatherServer() {
+		weatherServer.close();
+	}
+
+	@BeforeEach
+	void setUp() {
+		WeatherClient weatherClient = weatherServer.newClient();
+		given(weatherCache.getTodayWeather()).willAnswer(invocation -> weatherClient.getWeather(LocalDate.of(2025, 1, 1)));
+
+		User user = userRepository.save(new User(UUID.randomUUID() + "@test.com", "1234", UserRole.USER));
+		authUser = new AuthUser(user.getId(), user.getEmail(), UserRole.USER);
+	}
+
+	@Test
+	@DisplayName("날씨 조회를 트랜잭션 안에서 수행하면 커넥션 풀이 고갈되어 조회 요청도 실패한다.")
+	public void weatherInsideTransactionSaturatesPool() throws Exception {
+		//given
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+		//when
+		LoadResult result = runLoad(() -> transactionTemplate.executeWithoutResult(
+			status -> todoService.saveTodo(authUser, new TodoSaveRequest("제목", "내용"))));
+
+		//then
+		assertThat(result.activeConnections()).isEqualTo(4);
+		assertThat(result.probeSucceeded()).isFalse();
+		assertThat(result.failedSaves()).isPositive();
+	}
+
+	@Test
+	@DisplayName("날씨 조회를 트랜잭션 밖에서 수행하면 대기 중에도 커넥션을 점유하지 않는다.")
+	public void weatherOutsideTransactionKeepsPoolFree() throws Exception {
+		//when
+		LoadResult result = runLoad(() -> todoService.saveTodo(authUser, new TodoSaveRequest("제목", "내용")));
+
+		//then
+		assertThat(result.activeConnections()).isZero();
+		assertThat(result.probeSucceeded()).isTrue();
+		assertThat(result.failedSaves()).isZero();
+	}
+
+	private LoadResult runLoad(Runnable saveTodo) throws Exception {
+		HikariPoolMXBean pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+		ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY);
+		CountDownLatch start = new CountDownLatch(1);
+		AtomicInteger failedSaves = new AtomicInteger();
+		List<Future<?>> futures = new ArrayList<>();
+
+		for (int i = 0; i < CONCURRENCY; i++) {
+			futures.add(executor.submit(() -> {
+				start.await();
+				try {
+					saveTodo.run();
+				} catch (RuntimeException e) {
+					failedSaves.incrementAndGet();
+				}
+				return null;
+			}));
+		}
+		start.countDown();
+
+		// 모든 요청이 날씨 응답을 기다리는 시점의 풀 상태와 조회 요청 결과를 기록
+		Thread.sleep(WEATHER_DELAY_MILLIS / 2);
+		int activeConnections = pool.getActiveConnections();
+		boolean probeSucceeded;
+		try {
+			userRepository.count();
+			probeSucceeded = true;
+		} catch (RuntimeException e) {
+			probeSucceeded = false;
+		}
+
+		for (Future<?> future : futures) {
+			future.get(10, TimeUnit.SECONDS);
+		}
+		executor.shutdown();
+
+		return new LoadResult(activeConnections, probeSucceeded, failedSaves.get());
+	}
+
+	private record LoadResult(int activeConnections, boolean probeSucceeded, int failedSaves) {
+	}
+}
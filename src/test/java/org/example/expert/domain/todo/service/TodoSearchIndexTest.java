@@ -0,0 +1,238 @@
+package org.example.expert.domain.todo.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class TodoSearchIndexTest {
+
+	private Directory directory;
+	private TodoSearchIndex todoSearchIndex;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		directory = new ByteBuffersDirectory();
+		todoSearchIndex = new TodoSearchIndex(directory);
+	}
+
+	@AfterEach
+	void tearDown() throws IOException {
+		todoSearchIndex.close();
+	}
+
+	private Todo todo(long id, String title, String contents) {
+		Todo todo = new Todo(title, contents, "Sunny", new User("test@test.com", "1234", UserRole.USER));
+		ReflectionTestUtils.setField(todo, "id", id);
+		return todo;
+	}
+
+	private int committedDocs() throws IOException {
+		try (DirectoryReader reader = DirectoryReader.open(directory)) {
+			return reader.numDocs();
+		}
+	}
+
+	@Test
+	@DisplayName("모든 검색어를 포함한 Todo 만 반환하고 제목에서 일치한 Todo 를 먼저 반환한다.")
+	public void searchMatchesAllTermsAndRanksTitleFirst() {
+	    //given
+		todoSearchIndex.indexAll(List.of(
+			todo(1L, "장보기", "Spring 세미나 준비물 사기"),
+			todo(2L, "Spring 세미나", "발표 자료 준비"),
+			todo(3L, "Spring 스터디", "JPA 정리")));
+
+		//when
+		List<Long> ids = todoSearchIndex.search("spring 세미나", 10);
+
+		//then
+		assertEquals(List.of(2L, 1L), ids);
+	}
+
+	@Test
+	@DisplayName("끝이 * 인 검색어는 접두사로 검색한다.")
+	public void searchWithPrefix() {
+	    //given
+		todoSearchIndex.indexAll(List.of(
+			todo(1L, "sprint planning", "내용"),
+			todo(2L, "spring boot", "내용"),
+			todo(3L, "summer", "내용")));
+
+		//when
+		List<Long> prefixIds = todoSearchIndex.search("spr*", 10);
+		List<Long> termIds = todoSearchIndex.search("spr", 10);
+
+		//then
+		assertEquals(2, prefixIds.size());
+		assertTrue(prefixIds.containsAll(List.of(1L, 2L)));
+		assertTrue(termIds.isEmpty());
+	}
+
+	@Test
+	@DisplayName("같은 id 로 다시 색인하면 문서를 교체하고, 삭제하면 검색되지 않는다.")
+	public void reindexAndDelete() {
+	    //given
+		todoSearchIndex.index(todo(1L, "old title", "내용"));
+		todoSearchIndex.index(todo(1L, "new title", "내용"));
+
+		//when
+		List<Long> oldIds = todoSearchIndex.search("old", 10);
+		List<Long> newIds = todoSearchIndex.search("title", 10);
+		todoSearchIndex.delete(1L);
+
+		//then
+		assertTrue(oldIds.isEmpty());
+		assertEquals(List.of(1L), newIds);
+		assertTrue(todoSearchIndex.search("title", 10).isEmpty());
+		assertEquals(0, todoSearchIndex.size());
+	}
+
+	@Test
+	@DisplayName("재구성하면 기존 색인을 비우고 전달받은 Todo 로 다시 채운다.")
+	public void rebuildReplacesIndex() throws IOException {
+	    //given
+		todoSearchIndex.index(todo(1L, "stale", "내용"));
+		UserResponse user = new UserResponse(1L, "test@test.com");
+
+		//when
+		todoSearchIndex.rebuild(consumer -> {
+			consumer.accept(new TodoResponse(2L, "fresh", "내용", "Sunny", user, null, null, 0, 0));
+			consumer.accept(new TodoResponse(3L, "fresh again", "내용", "Sunny", user, null, null, 0, 0));
+		});
+
+		//then
+		assertTrue(todoSearchIndex.search("stale", 10).isEmpty());
+		assertEquals(2, todoSearchIndex.search("fresh", 10).size());
+		assertEquals(2, todoSearchIndex.size());
+	}
+
+	@Test
+	@DisplayName("재구성 중에는 commit 해도 디스크와 검색에 기존 색인이 남고, 재구성이 끝나면 한 번에 교체된다.")
+	public void previousIndexSurvivesWhileRebuilding() throws IOException {
+	    //given
+		todoSearchIndex.indexAll(List.of(todo(1L, "old", "내용"), todo(2L, "old", "내용")));
+		todoSearchIndex.commit();
+		UserResponse user = new UserResponse(1L, "test@test.com");
+		int[] committedDuringRebuild = new int[1];
+		List<List<Long>> searchedDuringRebuild = new ArrayList<>();
+
+		//when
+		todoSearchIndex.rebuild(consumer -> {
+			consumer.accept(new TodoResponse(3L, "fresh", "내용", "Sunny", user, null, null, 0, 0));
+			// 스케줄러 스레드에서 실행되는 것처럼 다른 스레드에서 commit 한다
+			CompletableFuture.runAsync(() -> {
+				try {
+					todoSearchIndex.commit();
+					committedDuringRebuild[0] = committedDocs();
+				} catch (IOException e) {
+					throw new IllegalStateException(e);
+				}
+			}).join();
+			searchedDuringRebuild.add(todoSearchIndex.search("old", 10));
+			consumer.accept(new TodoResponse(4L, "fresh", "내용", "Sunny", user, null, null, 0, 0));
+		});
+
+		//then
+		assertEquals(2, committedDuringRebuild[0]);
+		assertEquals(2, searchedDuringRebuild.get(0).size());
+		assertEquals(2, committedDocs());
+		assertEquals(List.of(), todoSearchIndex.search("old", 10));
+		assertEquals(2, todoSearchIndex.search("fresh", 10).size());
+	}
+
+	@Test
+	@DisplayName("재구성이 도중에 실패하면 기존 색인은 검색과 디스크 모두 그대로 남는다.")
+	public void failedRebuildKeepsPreviousIndex() throws IOException {
+	    //given
+		todoSearchIndex.indexAll(List.of(todo(1L, "old", "내용"), todo(2L, "old", "내용")));
+		todoSearchIndex.commit();
+		UserResponse user = new UserResponse(1L, "test@test.com");
+
+		//when
+		assertThrows(IllegalStateException.class, () -> todoSearchIndex.rebuild(consumer -> {
+			consumer.accept(new TodoResponse(3L, "fresh", "내용", "Sunny", user, null, null, 0, 0));
+			throw new IllegalStateException("export failed");
+		}));
+		todoSearchIndex.commit();
+
+		//then
+		assertEquals(2, todoSearchIndex.search("old", 10).size());
+		assertTrue(todoSearchIndex.search("fresh", 10).isEmpty());
+		assertEquals(2, todoSearchIndex.size());
+		assertEquals(2, committedDocs());
+	}
+
+	@Test
+	@DisplayName("재구성 중에 들어온 저장/삭제는 교체된 색인에도 반영된다.")
+	public void writesDuringRebuildSurviveSwap() throws IOException {
+	    //given
+		todoSearchIndex.index(todo(1L, "old", "내용"));
+		UserResponse user = new UserResponse(1L, "test@test.com");
+
+		//when
+		todoSearchIndex.rebuild(consumer -> {
+			consumer.accept(new TodoResponse(1L, "old", "내용", "Sunny", user, null, null, 0, 0));
+			consumer.accept(new TodoResponse(2L, "fresh", "내용", "Sunny", user, null, null, 0, 0));
+			todoSearchIndex.index(todo(3L, "during", "내용"));
+			todoSearchIndex.delete(1L);
+		});
+
+		//then
+		assertEquals(List.of(3L), todoSearchIndex.search("during", 10));
+		assertTrue(todoSearchIndex.search("old", 10).isEmpty());
+		assertEquals(2, todoSearchIndex.size());
+	}
+
+	@Test
+	@DisplayName("파일 색인은 임시 디렉터리에서 재구성하고 교체 후 임시 디렉터리를 지운다.")
+	public void fileIndexRebuildsInTemporaryDirectory(@TempDir Path root) throws IOException {
+	    //given
+		TodoSearchIndex fileIndex = new TodoSearchIndex(FSDirectory.open(root.resolve("index")));
+		fileIndex.index(todo(1L, "old", "내용"));
+		UserResponse user = new UserResponse(1L, "test@test.com");
+
+		//when
+		fileIndex.rebuild(consumer -> consumer.accept(new TodoResponse(2L, "fresh", "내용", "Sunny", user, null, null, 0, 0)));
+
+		//then
+		try (Stream<Path> children = Files.list(root)) {
+			assertEquals(List.of(root.resolve("index")), children.toList());
+		}
+		assertEquals(List.of(2L), fileIndex.search("fresh", 10));
+		fileIndex.close();
+	}
+
+	@Test
+	@DisplayName("분석 후 남는 단어가 없는 검색어는 빈 결과를 반환한다.")
+	public void searchWithoutTermsReturnsEmpty() {
+	    //given
+		todoSearchIndex.index(todo(1L, "title", "내용"));
+
+		//when
+		List<Long> ids = todoSearchIndex.search("  !!  ", 10);
+
+		//then
+		assertTrue(ids.isEmpty());
+	}
+}
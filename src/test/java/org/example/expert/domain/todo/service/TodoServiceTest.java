@@ -4,31 +4,50 @@ import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
-import org.example.expert.client.WeatherClient;
+import org.example.expert.client.WeatherCache;
+import org.example.expert.config.IoExecutors;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.KeysetCursor;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.request.TodoBulkSaveRequest;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBulkSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoPageResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoSliceResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.TodoCountMode;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import jakarta.persistence.EntityManager;
+
 @ExtendWith(MockitoExtension.class)
 class TodoServiceTest {
 
@@ -39,7 +58,22 @@ class TodoServiceTest {
 	private TodoRepository todoRepository;
 
 	@Mock
-	private WeatherClient weatherClient;
+	private WeatherCache weatherCache;
+
+	@Mock
+	private TodoCountCache todoCountCache;
+
+	@Mock
+	private EntityManager entityManager;
+
+	@Mock
+	private TodoBulkWriter todoBulkWriter;
+
+	@Mock
+	private TodoPurger todoPurger;
+
+	@Mock
+	private TodoSearchIndex todoSearchIndex;
 
 	@InjectMocks
 	private TodoService todoService;
@@ -54,7 +88,7 @@ class TodoServiceTest {
 
 		Todo savedTodo = new Todo("제목", "내용", "Sunny", user);
 		given(todoRepository.save(any(Todo.class))).willReturn(savedTodo);
-		given(weatherClient.getTodayWeather()).willReturn("Sunny");
+		given(weatherCache.getTodayWeather()).willReturn("Sunny");
 
 		//when
 		TodoSaveResponse todoSaveResponse = todoService.saveTodo(authUser, todoSaveRequest);
@@ -67,16 +101,40 @@ class TodoServiceTest {
 		assertEquals(todoSaveResponse.getId(), savedTodo.getId());
 	}
 
+	@Test
+	@DisplayName("비동기 등록은 저장 단계에 시간 제한을 두지 않아, 저장이 제한 시간보다 오래 걸려도 실패 응답 없이 저장 결과를 반환한다.")
+	public void saveTodoAsyncDoesNotTimeOutWriteStage() throws Exception {
+	    //given
+		IoExecutors ioExecutors = new IoExecutors(1, 10, 1, 10, Duration.ofMillis(50));
+		ReflectionTestUtils.setField(todoService, "ioExecutors", ioExecutors);
+		AuthUser authUser = new AuthUser(1L, "test@test.com", UserRole.USER);
+		Todo savedTodo = new Todo("제목", "내용", "Sunny", new User("test@test.com", "1234", UserRole.USER));
+		given(weatherCache.getTodayWeather()).willReturn("Sunny");
+		given(todoRepository.save(any(Todo.class))).willAnswer(invocation -> {
+			Thread.sleep(200);
+			return savedTodo;
+		});
+
+		//when
+		TodoSaveResponse response = todoService.saveTodoAsync(authUser, new TodoSaveRequest("제목", "내용"))
+			.get(5, TimeUnit.SECONDS);
+		ioExecutors.destroy();
+
+		//then
+		assertEquals("제목", response.getTitle());
+		verify(todoRepository, times(1)).save(any(Todo.class));
+	}
+
 	@Test
 	@DisplayName("해당하는 user가 등록된 Todo의 목록을 전체 조회할 수 있다.")
 	public void successUserTodoFindAll() {
 	    //given
-		User user = new User("test@test.com", "1234", UserRole.USER);
+		UserResponse user = new UserResponse(1L, "test@test.com");
 
-		Todo savedTodo1 = new Todo("제목1", "내용1", "Sunny", user);
-		Todo savedTodo2 = new Todo("제목2", "내용2", "Sunny", user);
+		TodoResponse savedTodo1 = new TodoResponse(1L, "제목1", "내용1", "Sunny", user, null, null, 0, 0);
+		TodoResponse savedTodo2 = new TodoResponse(2L, "제목2", "내용2", "Sunny", user, null, null, 0, 0);
 
-		given(todoRepository.findAllByOrderByModifiedAtDesc(any(Pageable.class)))
+		given(todoRepository.findTodoResponses(any(Pageable.class)))
 			.willReturn(new PageImpl<>(List.of(savedTodo1, savedTodo2)));
 
 		PageRequest pageRequest = PageRequest.of(1, 10);
@@ -117,4 +175,249 @@ class TodoServiceTest {
 		assertEquals(todo.getContents(), savedTodo.getContents());
 		assertEquals(todo.getWeather(), savedTodo.getWeather());
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("커서 조회 시 size 보다 많이 조회되면 다음 커서를 함께 반환하고, 커서로 다음 페이지를 조회한다.")
+	public void successTodosByCursor() {
+	    //given
+		UserResponse user = new UserResponse(1L, "test@test.com");
+		LocalDateTime modifiedAt = LocalDateTime.of(2024, 9, 1, 12, 0);
+
+		List<TodoResponse> todos = new ArrayList<>();
+		for (long id = 3; id >= 1; id--) {
+			todos.add(new TodoResponse(id, "제목" + id, "내용" + id, "Sunny", user, modifiedAt, modifiedAt, 0, 0));
+		}
+
+		given(todoRepository.findFirstSlice(Limit.of(3))).willReturn(todos);
+		given(todoRepository.findSliceAfter(modifiedAt, 2L, Limit.of(3))).willReturn(todos.subList(2, 3));
+
+		//when
+		TodoSliceResponse first = todoService.getTodosByCursor("", 2);
+		TodoSliceResponse second = todoService.getTodosByCursor(first.getNextCursor(), 2);
+
+		//then
+		assertThat(first.getContent()).hasSize(2);
+		assertTrue(first.isHasNext());
+		assertEquals(new KeysetCursor(modifiedAt, 2L), KeysetCursor.decode(first.getNextCursor()));
+
+		assertThat(second.getContent()).hasSize(1);
+		assertFalse(second.isHasNext());
+		assertNull(second.getNextCursor());
+	}
+
+	@Test
+	@DisplayName("잘못된 커서로 조회하면 InvalidRequestException 이 발생한다.")
+	public void failTodosByInvalidCursor() {
+		//when && then
+		assertThrows(InvalidRequestException.class, () -> todoService.getTodosByCursor("not-a-cursor", 10));
+	}
+
+	@Test
+	@DisplayName("count 방식이 APPROX 이면 COUNT 쿼리 대신 캐시된 전체 건수를 사용한다.")
+	public void successTodosWithApproximateCount() {
+	    //given
+		TodoResponse todo = new TodoResponse(1L, "제목1", "내용1", "Sunny", new UserResponse(1L, "test@test.com"), null, null, 0, 0);
+
+		given(todoRepository.findTodoResponseSlice(any(Pageable.class)))
+			.willReturn(new SliceImpl<>(List.of(todo), PageRequest.of(0, 1), true));
+		given(todoCountCache.getCount()).willReturn(100L);
+
+		//when
+		TodoPageResponse result = todoService.getTodos(1, 1, TodoCountMode.APPROX);
+
+		//then
+		assertEquals(100L, result.getPage().totalElements());
+		assertEquals(100L, result.getPage().totalPages());
+		assertTrue(result.getHasNext());
+		verify(todoRepository, never()).findTodoResponses(any(Pageable.class));
+	}
+
+	@Test
+	@DisplayName("count 방식이 NONE 이면 전체 건수 없이 다음 페이지 여부만 반환한다.")
+	public void successTodosWithoutCount() {
+	    //given
+		TodoResponse todo = new TodoResponse(1L, "제목1", "내용1", "Sunny", new UserResponse(1L, "test@test.com"), null, null, 0, 0);
+
+		given(todoRepository.findTodoResponseSlice(any(Pageable.class)))
+			.willReturn(new SliceImpl<>(List.of(todo), PageRequest.of(0, 1), true));
+
+		//when
+		TodoPageResponse result = todoService.getTodos(1, 1, TodoCountMode.NONE);
+
+		//then
+		assertNull(result.getPage().totalElements());
+		assertNull(result.getPage().totalPages());
+		assertTrue(result.getHasNext());
+		verify(todoCountCache, never()).getCount();
+	}
+
+	@Test
+	@DisplayName("내보내기는 스트림의 모든 Todo 를 순서대로 전달하고 1000건마다 영속성 컨텍스트를 비운다.")
+	public void successExportTodosClearsPersistenceContext() {
+	    //given
+		User user = new User("test@test.com", "1234", UserRole.USER);
+		ReflectionTestUtils.setField(user, "id", 1L);
+
+		List<Todo> todos = new ArrayList<>();
+		for (long i = 1; i <= 1500; i++) {
+			Todo todo = new Todo("제목" + i, "내용" + i, "Sunny", user);
+			ReflectionTestUtils.setField(todo, "id", i);
+			todos.add(todo);
+		}
+		given(todoRepository.streamAllForExport()).willReturn(todos.stream());
+
+		//when
+		List<Long> exportedIds = new ArrayList<>();
+		todoService.exportTodos(todoResponse -> exportedIds.add(todoResponse.getId()));
+
+		//then
+		assertEquals(1500, exportedIds.size());
+		assertEquals(1L, exportedIds.get(0));
+		assertEquals(1500L, exportedIds.get(1499));
+		verify(entityManager, times(1)).clear();
+	}
+
+	@Test
+	@DisplayName("일괄 등록 시 날씨는 한 번만 조회하고 유효한 항목만 저장하며 항목별 결과를 요청 순서대로 반환한다.")
+	public void successSaveTodosReturnsPerItemResults() {
+	    //given
+		AuthUser authUser = new AuthUser(1L, "test@test.com", UserRole.USER);
+		TodoBulkSaveRequest todoBulkSaveRequest = new TodoBulkSaveRequest(List.of(
+			new TodoSaveRequest("제목1", "내용1"),
+			new TodoSaveRequest(" ", "내용2"),
+			new TodoSaveRequest("제목3", "내용3")));
+
+		given(weatherCache.getTodayWeather()).willReturn("Sunny");
+		given(todoBulkWriter.insert(anyList())).willReturn(List.of(10L, 11L));
+
+		//when
+		TodoBulkSaveResponse response = todoService.saveTodos(authUser, todoBulkSaveRequest);
+
+		//then
+		verify(weatherCache, times(1)).getTodayWeather();
+		verify(todoBulkWriter).insert(argThat(todos -> todos.size() == 2
+			&& todos.get(0).getTitle().equals("제목1") && todos.get(1).getTitle().equals("제목3")));
+
+		assertEquals("Sunny", response.getWeather());
+		assertEquals(2, response.getSavedCount());
+		assertEquals(1, response.getFailedCount());
+		assertEquals(10L, response.getResults().get(0).getId());
+		assertNull(response.getResults().get(1).getId());
+		assertEquals("제목과 내용은 필수입니다.", response.getResults().get(1).getErrorMessage());
+		assertEquals(11L, response.getResults().get(2).getId());
+		assertEquals(2, response.getResults().get(2).getIndex());
+	}
+
+	@Test
+	@DisplayName("일괄 등록할 유효한 항목이 없으면 날씨를 조회하지 않고 저장도 하지 않는다.")
+	public void saveTodosWithoutValidItemsSkipsInsert() {
+	    //given
+		AuthUser authUser = new AuthUser(1L, "test@test.com", UserRole.USER);
+		TodoBulkSaveRequest todoBulkSaveRequest = new TodoBulkSaveRequest(List.of(new TodoSaveRequest("제목", "")));
+
+		//when
+		TodoBulkSaveResponse response = todoService.saveTodos(authUser, todoBulkSaveRequest);
+
+		//then
+		verify(weatherCache, never()).getTodayWeather();
+		verify(todoBulkWriter, never()).insert(anyList());
+		assertEquals(0, response.getSavedCount());
+		assertEquals(1, response.getFailedCount());
+	}
+
+	@Test
+	@DisplayName("Todo 작성자가 삭제하면 삭제 표시를 먼저 하고 댓글, 담당자, Todo 를 바로 일괄 삭제한다.")
+	public void successDeleteTodo() {
+	    //given
+		AuthUser authUser = new AuthUser(1L, "test@test.com", UserRole.USER);
+		Todo todo = new Todo("제목", "내용", "Sunny", User.fromAuthUser(authUser));
+		given(todoRepository.findByIdAndUserId(10L, 1L)).willReturn(Optional.of(todo));
+
+		//when
+		todoService.deleteTodo(authUser, 10L, false);
+
+		//then
+		InOrder inOrder = inOrder(todoRepository, todoPurger);
+		inOrder.verify(todoRepository).softDeleteById(eq(10L), any(LocalDateTime.class));
+		inOrder.verify(todoPurger).purge(10L);
+	}
+
+	@Test
+	@DisplayName("즉시 삭제가 중간에 실패해도 삭제 표시는 남아 백그라운드 정리가 이어서 삭제한다.")
+	public void deleteTodoLeavesSoftDeleteWhenPurgeFails() {
+	    //given
+		AuthUser authUser = new AuthUser(1L, "test@test.com", UserRole.USER);
+		Todo todo = new Todo("제목", "내용", "Sunny", User.fromAuthUser(authUser));
+		given(todoRepository.findByIdAndUserId(10L, 1L)).willReturn(Optional.of(todo));
+		willThrow(new DataIntegrityViolationException("fk")).given(todoPurger).purge(10L);
+
+		//when
+		todoService.deleteTodo(authUser, 10L, false);
+
+		//then
+		verify(todoRepository).softDeleteById(eq(10L), any(LocalDateTime.class));
+		verify(todoSearchIndex).delete(10L);
+	}
+
+	@Test
+	@DisplayName("비동기 삭제를 요청하면 삭제 표시만 하고 실제 삭제는 하지 않는다.")
+	public void successDeleteTodoAsync() {
+	    //given
+		AuthUser authUser = new AuthUser(1L, "test@test.com", UserRole.USER);
+		Todo todo = new Todo("제목", "내용", "Sunny", User.fromAuthUser(authUser));
+		given(todoRepository.findByIdAndUserId(10L, 1L)).willReturn(Optional.of(todo));
+
+		//when
+		todoService.deleteTodo(authUser, 10L, true);
+
+		//then
+		verify(todoRepository).softDeleteById(eq(10L), any(LocalDateTime.class));
+		verify(todoPurger, never()).purge(anyLong());
+	}
+
+	@Test
+	@DisplayName("Todo 작성자가 아니면 삭제할 수 없다.")
+	public void deleteTodoByOtherUserFails() {
+	    //given
+		AuthUser authUser = new AuthUser(2L, "other@test.com", UserRole.USER);
+		given(todoRepository.findByIdAndUserId(10L, 2L)).willReturn(Optional.empty());
+
+		//when
+		InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+			() -> todoService.deleteTodo(authUser, 10L, false));
+
+		//then
+		assertEquals("해당 일정을 만든 유저가 유효하지 않습니다.", exception.getMessage());
+		verify(todoPurger, never()).purge(anyLong());
+	}
+
+	@Test
+	@DisplayName("검색 결과는 색인의 관련도 순서를 유지하고 DB 에 없는 Todo 는 제외한다.")
+	public void successSearchTodosKeepsIndexOrder() {
+	    //given
+		UserResponse user = new UserResponse(1L, "test@test.com");
+		TodoResponse todo1 = new TodoResponse(1L, "제목1", "내용1", "Sunny", user, null, null, 0, 0);
+		TodoResponse todo3 = new TodoResponse(3L, "제목3", "내용3", "Sunny", user, null, null, 0, 0);
+
+		given(todoSearchIndex.search("제목", 20)).willReturn(List.of(3L, 2L, 1L));
+		given(todoRepository.findTodoResponsesByIds(List.of(3L, 2L, 1L))).willReturn(List.of(todo1, todo3));
+
+		//when
+		List<TodoResponse> result = todoService.searchTodos("제목", 20);
+
+		//then
+		assertEquals(List.of(todo3, todo1), result);
+	}
+
+	@Test
+	@DisplayName("검색어가 비어 있으면 예외가 발생한다.")
+	public void searchTodosWithBlankQueryFails() {
+	    //when
+		InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+			() -> todoService.searchTodos(" ", 20));
+
+		//then
+		assertEquals("검색어를 입력해주세요.", exception.getMessage());
+		verify(todoSearchIndex, never()).search(any(), anyInt());
+	}
+}
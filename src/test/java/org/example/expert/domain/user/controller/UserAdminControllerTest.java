@@ -6,9 +6,14 @@ import static org.mockito.BDDMockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import java.util.List;
+
 import org.example.expert.config.AuthUserArgumentResolver;
+import org.example.expert.config.ErrorResponseBodies;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.dto.request.UserRoleBulkChangeRequest;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.example.expert.domain.user.dto.response.UserRoleBulkChangeResponse;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.service.UserAdminService;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,12 +23,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 @WebMvcTest(UserAdminController.class)
+@Import(ErrorResponseBodies.class)
 @AutoConfigureMockMvc
 class UserAdminControllerTest {
 
@@ -62,4 +69,23 @@ class UserAdminControllerTest {
 			.content(objectMapper.writeValueAsString(request)))
 			.andExpect(status().isOk());
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("admin은 여러 user의 role을 한 번에 변경하고 요약 결과를 받는다.")
+	public void successAdminChangeUserRoles() throws Exception {
+	    //given
+		UserRoleBulkChangeRequest request = new UserRoleBulkChangeRequest(List.of(2L, 3L, 4L), null, "ADMIN");
+
+		given(userAdminService.changeUserRoles(any(AuthUser.class), eq("/admin/users"), any(UserRoleBulkChangeRequest.class)))
+			.willReturn(new UserRoleBulkChangeResponse("ADMIN", 3, 2, 1));
+
+		//when && then
+		mockMvc.perform(patch("/admin/users")
+			.contentType(MediaType.APPLICATION_JSON)
+			.content(objectMapper.writeValueAsString(request)))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.changedCount").value(2))
+			.andExpect(jsonPath("$.unchangedCount").value(1))
+			.andExpect(jsonPath("$.batchCount").value(1));
+	}
+}
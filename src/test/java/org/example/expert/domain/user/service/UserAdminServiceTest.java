@@ -4,11 +4,17 @@ import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import org.example.expert.config.PasswordEncoder;
+import org.example.expert.config.aop.AdminAuditLog;
+import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.dto.request.UserRoleBulkChangeRequest;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.example.expert.domain.user.dto.response.UserRoleBulkChangeResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
@@ -28,6 +34,11 @@ class UserAdminServiceTest {
 	@Mock
 	private PasswordEncoder passwordEncoder;
 
+	@Mock
+	private AdminAuditLog adminAuditLog;
+
+	private final AuthUser admin = new AuthUser(1L, "admin@admin.com", UserRole.ADMIN);
+
 	@InjectMocks
 	private UserAdminService userAdminService;
 
@@ -76,4 +87,62 @@ class UserAdminServiceTest {
 
 		assertEquals("User not found", exception.getMessage());
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("id 목록으로 역할을 바꾸면 청크마다 UPDATE 한 번과 감사 기록 한 건이 남는다.")
+	public void successChangeUserRolesByIds() {
+	    //given
+		List<Long> userIds = LongStream.rangeClosed(1, UserAdminService.CHUNK_SIZE + 1).boxed().toList();
+		UserRoleBulkChangeRequest request = new UserRoleBulkChangeRequest(userIds, null, "ADMIN");
+
+		given(userRepository.updateRoleByIdIn(eq(userIds.subList(0, UserAdminService.CHUNK_SIZE)), eq(UserRole.ADMIN), any()))
+			.willReturn(UserAdminService.CHUNK_SIZE - 1);
+		given(userRepository.updateRoleByIdIn(eq(List.of((long)UserAdminService.CHUNK_SIZE + 1)), eq(UserRole.ADMIN), any()))
+			.willReturn(1);
+
+		//when
+		UserRoleBulkChangeResponse response = userAdminService.changeUserRoles(admin, "/admin/users", request);
+
+	    //then
+		assertEquals(UserAdminService.CHUNK_SIZE + 1, response.getTargetCount());
+		assertEquals(UserAdminService.CHUNK_SIZE, response.getChangedCount());
+		assertEquals(1, response.getUnchangedCount());
+		assertEquals(2, response.getBatchCount());
+		verify(userRepository, times(2)).updateRoleByIdIn(anyList(), eq(UserRole.ADMIN), any());
+		verify(adminAuditLog, times(2)).record(eq(admin.getId()), anyLong(), eq("/admin/users"), any(), any(), isNull());
+	}
+
+	@Test
+	@DisplayName("currentRole 로 역할을 바꾸면 해당 역할의 사용자를 id 순서로 청크 단위로 바꾼다.")
+	public void successChangeUserRolesByCurrentRole() {
+	    //given
+		List<Long> firstChunk = LongStream.rangeClosed(1, UserAdminService.CHUNK_SIZE).boxed().toList();
+		UserRoleBulkChangeRequest request = new UserRoleBulkChangeRequest(null, "USER", "ADMIN");
+
+		given(userRepository.findIdsByRoleAfter("USER", 0L, UserAdminService.CHUNK_SIZE)).willReturn(firstChunk);
+		given(userRepository.findIdsByRoleAfter("USER", (long)UserAdminService.CHUNK_SIZE, UserAdminService.CHUNK_SIZE))
+			.willReturn(List.of());
+		given(userRepository.updateRoleByIdIn(eq(firstChunk), eq(UserRole.ADMIN), any())).willReturn(firstChunk.size());
+
+		//when
+		UserRoleBulkChangeResponse response = userAdminService.changeUserRoles(admin, "/admin/users", request);
+
+	    //then
+		assertEquals(UserAdminService.CHUNK_SIZE, response.getChangedCount());
+		assertEquals(1, response.getBatchCount());
+		verify(adminAuditLog, times(1)).record(eq(admin.getId()), anyLong(), eq("/admin/users"), any(), any(), isNull());
+	}
+
+	@Test
+	@DisplayName("userIds 와 currentRole 을 함께 지정하거나 둘 다 없으면 예외가 발생한다.")
+	public void changeUserRolesRequiresOneTarget() {
+	    //given
+		UserRoleBulkChangeRequest both = new UserRoleBulkChangeRequest(List.of(1L), "USER", "ADMIN");
+		UserRoleBulkChangeRequest none = new UserRoleBulkChangeRequest(null, null, "ADMIN");
+
+		//when && then
+		assertThrows(InvalidRequestException.class, () -> userAdminService.changeUserRoles(admin, "/admin/users", both));
+		assertThrows(InvalidRequestException.class, () -> userAdminService.changeUserRoles(admin, "/admin/users", none));
+		verifyNoInteractions(adminAuditLog);
+	}
+}